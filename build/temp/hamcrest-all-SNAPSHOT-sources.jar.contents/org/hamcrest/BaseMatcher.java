@@ -0,0 +1,79 @@
+/*  Copyright (c) 2000-2006 hamcrest.org
+ */
+package org.hamcrest;
+
+/**
+ * BaseClass for all Matcher implementations.
+ *
+ * @see Matcher
+ */
+public abstract class BaseMatcher<T> implements Matcher<T> {
+
+    /**
+     * @see Matcher#_dont_implement_Matcher___instead_extend_BaseMatcher_()
+     */
+    @Override
+    @Deprecated
+    public final void _dont_implement_Matcher___instead_extend_BaseMatcher_() {
+        // See Matcher interface for an explanation of this method.
+    }
+
+    @Override
+    public void describeMismatch(Object item, Description description) {
+        description.appendText("was ").appendValue(item);
+    }
+
+    /**
+     * Evaluates the matcher for argument <var>item</var> once, keeping what is needed to
+     * describe a mismatch. Use this instead of <code>matches(item)</code> followed by
+     * <code>describeMismatch(item, description)</code>, which evaluates the matcher twice.
+     * <p/>
+     * This implementation calls {@link #matches(Object)} and, if it fails, describes the
+     * mismatch with {@link #describeMismatch(Object, Description)} only when asked to.
+     * Matchers that work out why an item fails while matching it should override this to
+     * keep what they find.
+     *
+     * @param item the object against which the matcher is evaluated.
+     * @return the result, which can describe the mismatch if <var>item</var> does not match.
+     */
+    public MatchResult evaluate(Object item) {
+        return matches(item) ? MatchResult.MATCHED : new Mismatch(this, item);
+    }
+
+    /**
+     * Evaluates any matcher once, as {@link #evaluate(Object)} does. A matcher that does not
+     * extend <code>BaseMatcher</code> is called with <code>matches(item)</code>, and its
+     * <code>describeMismatch</code> only when the mismatch is asked for.
+     */
+    public static MatchResult evaluate(Matcher<?> matcher, Object item) {
+        if (matcher instanceof BaseMatcher) {
+            return ((BaseMatcher<?>) matcher).evaluate(item);
+        }
+        return matcher.matches(item) ? MatchResult.MATCHED : new Mismatch(matcher, item);
+    }
+
+    @Override
+    public String toString() {
+        return StringDescription.toString(this);
+    }
+
+    private static final class Mismatch implements MatchResult {
+        private final Matcher<?> matcher;
+        private final Object item;
+
+        Mismatch(Matcher<?> matcher, Object item) {
+            this.matcher = matcher;
+            this.item = item;
+        }
+
+        @Override
+        public boolean matched() {
+            return false;
+        }
+
+        @Override
+        public void describeMismatch(Description mismatchDescription) {
+            matcher.describeMismatch(item, mismatchDescription);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package org.hamcrest;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+
+import org.hamcrest.internal.ArrayIterator;
+import org.hamcrest.internal.SelfDescribingValueIterator;
+
+/**
+ * A {@link Description} that is stored as a string of limited size, so that describing
+ * a very large value, such as a collection of millions of items, costs no more than
+ * describing a small one.
+ * <p/>
+ * Lists show at most {@link Limits#maxElements} items, followed by
+ * <code>...(N more)</code>, and no more items are taken from their iterators. Nested
+ * descriptions deeper than {@link Limits#maxDepth} are shown as <code>...</code>. Once
+ * {@link Limits#maxCharacters} have been written, the rest is discarded, the description
+ * ends with <code>...</code> and {@link #isEnabled()} returns false, so matchers stop
+ * building text.
+ */
+public class BoundedDescription extends BaseDescription implements SelectiveDescription {
+    private static final String ELIDED = "...";
+
+    private final StringBuilder out = new StringBuilder();
+    private final Limits limits;
+    private int depth;
+    private boolean truncated;
+
+    /**
+     * Limits on the size of a {@link BoundedDescription}.
+     */
+    public static final class Limits {
+        /**
+         * Limits that are never reached.
+         */
+        public static final Limits UNLIMITED = new Limits(Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+        /**
+         * Limits that no ordinary description reaches, but that keep the description of
+         * a huge value to a couple of megabytes.
+         */
+        public static final Limits DEFAULT = new Limits(1000000, 1000, 100);
+
+        public final int maxCharacters;
+        public final int maxElements;
+        public final int maxDepth;
+
+        /**
+         * @param maxCharacters the most characters written, not counting the final <code>...</code>
+         * @param maxElements the most items shown in any one list
+         * @param maxDepth the most descriptions shown nested within one another
+         */
+        public Limits(int maxCharacters, int maxElements, int maxDepth) {
+            if (maxCharacters < 0 || maxElements < 0 || maxDepth < 0) {
+                throw new IllegalArgumentException("Limits must not be negative");
+            }
+            this.maxCharacters = maxCharacters;
+            this.maxElements = maxElements;
+            this.maxDepth = maxDepth;
+        }
+    }
+
+    public BoundedDescription() {
+        this(Limits.DEFAULT);
+    }
+
+    public BoundedDescription(Limits limits) {
+        if (limits == null) {
+            throw new IllegalArgumentException("Limits must not be null");
+        }
+        this.limits = limits;
+    }
+
+    /**
+     * Return the description of a {@link SelfDescribing} object as a String, within the given limits.
+     */
+    public static String toString(SelfDescribing selfDescribing, Limits limits) {
+        return new BoundedDescription(limits).appendDescriptionOf(selfDescribing).toString();
+    }
+
+    @Override
+    public Description appendDescriptionOf(SelfDescribing value) {
+        if (truncated) {
+            return this;
+        }
+        if (depth >= limits.maxDepth) {
+            append(ELIDED);
+            return this;
+        }
+        depth++;
+        try {
+            value.describeTo(this);
+        } finally {
+            depth--;
+        }
+        return this;
+    }
+
+    @Override
+    public Description appendValue(Object value) {
+        if (truncated) {
+            return this;
+        }
+        if (value != null && value.getClass().isArray() && ValueFormatters.formatterFor(value.getClass()) == null) {
+            return appendList("[", ", ", "]", new SelfDescribingValueIterator<Object>(new ArrayIterator(value)),
+                              Array.getLength(value));
+        }
+        return super.appendValue(value);
+    }
+
+    @Override
+    public <T> Description appendValueList(String start, String separator, String end, T... values) {
+        return appendValueList(start, separator, end, Arrays.asList(values));
+    }
+
+    @Override
+    public <T> Description appendValueList(String start, String separator, String end, Iterable<T> values) {
+        return appendList(start, separator, end, new SelfDescribingValueIterator<T>(values.iterator()), sizeOf(values));
+    }
+
+    @Override
+    public Description appendList(String start, String separator, String end, Iterable<? extends SelfDescribing> values) {
+        return appendList(start, separator, end, values.iterator(), sizeOf(values));
+    }
+
+    /**
+     * @return false once the character limit has been reached
+     */
+    @Override
+    public boolean isEnabled() {
+        return !truncated;
+    }
+
+    /**
+     * @param size the number of items, or -1 if it is not known
+     */
+    private Description appendList(String start, String separator, String end,
+                                   Iterator<? extends SelfDescribing> items, int size) {
+        append(start);
+        int shown = 0;
+        while (!truncated && items.hasNext()) {
+            if (shown > 0) {
+                append(separator);
+            }
+            if (shown == limits.maxElements) {
+                append(size < 0 ? ELIDED : ELIDED + "(" + (size - shown) + " more)");
+                break;
+            }
+            appendDescriptionOf(items.next());
+            shown++;
+        }
+        append(end);
+        return this;
+    }
+
+    private static int sizeOf(Iterable<?> values) {
+        return (values instanceof Collection) ? ((Collection<?>) values).size() : -1;
+    }
+
+    @Override
+    protected void append(String str) {
+        final String text = String.valueOf(str);
+        append(text, 0, text.length());
+    }
+
+    @Override
+    protected void append(String str, int start, int end) {
+        if (truncated) {
+            return;
+        }
+        final int room = limits.maxCharacters - out.length();
+        if (end - start <= room) {
+            out.append(str, start, end);
+        } else {
+            out.append(str, start, start + room);
+            truncated = true;
+        }
+    }
+
+    @Override
+    protected void append(char c) {
+        if (truncated) {
+            return;
+        }
+        if (out.length() < limits.maxCharacters) {
+            out.append(c);
+        } else {
+            truncated = true;
+        }
+    }
+
+    /**
+     * Returns the description as a string, ending with <code>...</code> if it was cut short.
+     */
+    @Override
+    public String toString() {
+        return truncated ? out + ELIDED : out.toString();
+    }
+}
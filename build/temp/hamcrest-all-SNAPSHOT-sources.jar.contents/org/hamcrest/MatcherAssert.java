@@ -0,0 +1,148 @@
+/*  Copyright (c) 2000-2006 hamcrest.org
+ */
+package org.hamcrest;
+
+
+public class MatcherAssert {
+    private static final Asserter WITH_STACK_TRACE = new Asserter(false);
+    private static final Asserter STACKLESS = new Asserter(true);
+
+    private static volatile BoundedDescription.Limits messageLimits = BoundedDescription.Limits.DEFAULT;
+    private static volatile StreamingDescription failureSink;
+
+    /**
+     * Makes assertions whose failures throw a {@link StacklessAssertionError}, which has no
+     * stack trace and renders its message only when asked, for assertions whose failures
+     * are expected and handled. Only the assertions made through it are affected.
+     * <p/>
+     * For example:
+     * <pre>MatcherAssert.stackless().assertThat(order, hasProperty("total", greaterThan(0)))</pre>
+     */
+    public static Asserter stackless() {
+        return STACKLESS;
+    }
+
+    /**
+     * Sets the limits on the size of the messages of failed assertions, from now on and
+     * in every thread. The default limits, {@link BoundedDescription.Limits#DEFAULT}, are
+     * only reached when describing huge values.
+     */
+    public static void setMessageLimits(BoundedDescription.Limits limits) {
+        if (limits == null) {
+            throw new IllegalArgumentException("Message limits must not be null");
+        }
+        messageLimits = limits;
+    }
+
+    public static BoundedDescription.Limits messageLimits() {
+        return messageLimits;
+    }
+
+    /**
+     * Sends the whole text of every failed assertion, from now on and in every thread, to
+     * <var>sink</var> as well, however large it is, each followed by a line break.
+     * The message of the error thrown is still limited by {@link #setMessageLimits}.
+     * If writing to the sink fails, the assertion error is thrown all the same, with the
+     * failure to write as its cause.
+     *
+     * @param sink where to write failures, or null to stop writing them
+     */
+    public static void setFailureSink(StreamingDescription sink) {
+        failureSink = sink;
+    }
+
+    public static StreamingDescription failureSink() {
+        return failureSink;
+    }
+
+    public static <T> void assertThat(T actual, Matcher<? super T> matcher) {
+        WITH_STACK_TRACE.assertThat("", actual, matcher);
+    }
+
+    public static <T> void assertThat(String reason, T actual, Matcher<? super T> matcher) {
+        WITH_STACK_TRACE.assertThat(reason, actual, matcher);
+    }
+
+    public static void assertThat(String reason, boolean assertion) {
+        WITH_STACK_TRACE.assertThat(reason, assertion);
+    }
+
+    /**
+     * Makes assertions as the static methods of {@link MatcherAssert} do, but reports
+     * their failures in a way of its own.
+     *
+     * @see MatcherAssert#stackless()
+     */
+    public static final class Asserter {
+        private final boolean stackless;
+
+        private Asserter(boolean stackless) {
+            this.stackless = stackless;
+        }
+
+        public <T> void assertThat(T actual, Matcher<? super T> matcher) {
+            assertThat("", actual, matcher);
+        }
+
+        public <T> void assertThat(String reason, T actual, Matcher<? super T> matcher) {
+            MatchResult result = BaseMatcher.evaluate(matcher, actual);
+            if (!result.matched()) {
+                fail(new Failure(reason, matcher, result), stackless);
+            }
+        }
+
+        public void assertThat(final String reason, boolean assertion) {
+            if (!assertion) {
+                fail(new SelfDescribing() {
+                    @Override
+                    public void describeTo(Description description) {
+                        description.appendText(reason);
+                    }
+                }, stackless);
+            }
+        }
+    }
+
+    private static void fail(SelfDescribing failure, boolean stackless) {
+        final AssertionError error = stackless
+                ? new StacklessAssertionError(failure)
+                : new AssertionError(messageOf(failure));
+        final StreamingDescription sink = failureSink;
+        if (sink != null) {
+            try {
+                synchronized (sink) {
+                    sink.appendDescriptionOf(failure).appendText("\n");
+                    sink.flush();
+                }
+            } catch (RuntimeException sinkFailure) {
+                error.initCause(sinkFailure);
+            }
+        }
+        throw error;
+    }
+
+    static String messageOf(SelfDescribing failure) {
+        return BoundedDescription.toString(failure, messageLimits);
+    }
+
+    private static final class Failure implements SelfDescribing {
+        private final String reason;
+        private final Matcher<?> matcher;
+        private final MatchResult result;
+
+        Failure(String reason, Matcher<?> matcher, MatchResult result) {
+            this.reason = reason;
+            this.matcher = matcher;
+            this.result = result;
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendText(reason)
+                       .appendText("\nExpected: ")
+                       .appendDescriptionOf(matcher)
+                       .appendText("\n     but: ");
+            result.describeMismatch(description);
+        }
+    }
+}
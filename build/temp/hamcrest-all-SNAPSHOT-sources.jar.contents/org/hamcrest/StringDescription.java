@@ -0,0 +1,89 @@
+package org.hamcrest;
+
+import java.io.IOException;
+
+/**
+ * A {@link Description} that is stored as a string.
+ * <p/>
+ * When written to a {@link StringBuilder}, as it is by default, text is appended to the
+ * builder directly rather than through {@link Appendable}, which may throw.
+ */
+public class StringDescription extends BaseDescription {
+    private final Appendable out;
+    private final StringBuilder builder;
+
+    public StringDescription() {
+        this(new StringBuilder());
+    }
+
+    public StringDescription(Appendable out) {
+        this.out = out;
+        this.builder = (out instanceof StringBuilder) ? (StringBuilder) out : null;
+    }
+    
+    /**
+     * Return the description of a {@link SelfDescribing} object as a String.
+     * 
+     * @param selfDescribing
+     *   The object to be described.
+     * @return
+     *   The description of the object.
+     */
+    public static String toString(SelfDescribing selfDescribing) {
+        return new StringDescription().appendDescriptionOf(selfDescribing).toString();
+    }
+
+    /**
+     * Alias for {@link #toString(SelfDescribing)}.
+     */
+    public static String asString(SelfDescribing selfDescribing) {
+        return toString(selfDescribing);
+    }
+
+    @Override
+    protected void append(String str) {
+        if (builder != null) {
+            builder.append(str);
+            return;
+        }
+        try {
+            out.append(str);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not write description", e);
+        }
+    }
+
+    @Override
+    protected void append(String str, int start, int end) {
+        if (builder != null) {
+            builder.append(str, start, end);
+            return;
+        }
+        try {
+            out.append(str, start, end);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not write description", e);
+        }
+    }
+
+    @Override
+    protected void append(char c) {
+        if (builder != null) {
+            builder.append(c);
+            return;
+        }
+        try {
+            out.append(c);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not write description", e);
+        }
+    }
+    
+    /**
+     * Returns the description as a string.
+     */
+    @Override
+    public String toString() {
+        return out.toString();
+    }
+}
@@ -0,0 +1,56 @@
+package org.hamcrest.beans;
+
+import static org.hamcrest.beans.PropertyUtil.NO_ARGUMENTS;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Reads a public field, or a record component through its accessor, that was looked up
+ * once for its class rather than on every read. Both are public members, but they may
+ * belong to a class that is not, such as a record nested in a test, so access checks
+ * are suppressed where the security manager allows it.
+ */
+final class FieldAccessor {
+    private final String name;
+    private final Field field;
+    private final Method accessor;
+
+    private FieldAccessor(String name, Field field, Method accessor) {
+        this.name = name;
+        this.field = field;
+        this.accessor = accessor;
+    }
+
+    static FieldAccessor forField(Field field) {
+        return new FieldAccessor(field.getName(), accessible(field), null);
+    }
+
+    static FieldAccessor forComponent(String name, Method accessor) {
+        return new FieldAccessor(name, null, accessible(accessor));
+    }
+
+    String name() {
+        return name;
+    }
+
+    Object read(Object bean) throws IllegalAccessException, InvocationTargetException {
+        return (field != null) ? field.get(bean) : accessor.invoke(bean, NO_ARGUMENTS);
+    }
+
+    private static <T extends AccessibleObject> T accessible(T member) {
+        try {
+            member.setAccessible(true);
+        } catch (RuntimeException e) {
+            // a SecurityException, or a module that is not open: read with the usual access checks
+        }
+        return member;
+    }
+
+    @Override
+    public String toString() {
+        return (field != null) ? field.toString() : accessor.toString();
+    }
+}
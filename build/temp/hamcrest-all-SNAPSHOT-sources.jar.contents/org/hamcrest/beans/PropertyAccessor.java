@@ -0,0 +1,45 @@
+package org.hamcrest.beans;
+
+import static org.hamcrest.beans.PropertyUtil.NO_ARGUMENTS;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Reads a JavaBean property through a read method that is looked up once, when the
+ * property is introspected. {@link PropertyDescriptor#getReadMethod()} is synchronized
+ * and resolves the method through references each time it is called, and the read
+ * itself is a plain reflective call, which is as direct as Java 5 allows. The method is
+ * invoked with the usual access checks, so getters of non-public classes fail just as
+ * they would when called through the {@link PropertyDescriptor}.
+ */
+final class PropertyAccessor {
+    private final PropertyDescriptor descriptor;
+    private final Method readMethod;
+
+    PropertyAccessor(PropertyDescriptor descriptor) {
+        this.descriptor = descriptor;
+        this.readMethod = descriptor.getReadMethod();
+    }
+
+    PropertyDescriptor descriptor() {
+        return descriptor;
+    }
+
+    String name() {
+        return descriptor.getName();
+    }
+
+    boolean isReadable() {
+        return readMethod != null;
+    }
+
+    Method readMethod() {
+        return readMethod;
+    }
+
+    Object read(Object bean) throws IllegalAccessException, InvocationTargetException {
+        return readMethod.invoke(bean, NO_ARGUMENTS);
+    }
+}
@@ -0,0 +1,201 @@
+package org.hamcrest.beans;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.hamcrest.Description;
+
+/**
+ * A path through a graph of beans, such as <code>order.lines[3].sku</code>, parsed once
+ * into a chain of segments. Each segment remembers the accessor it used for the last
+ * class of bean it read, so walking the path over beans of the same shape neither
+ * introspects nor creates intermediate matchers.
+ * <p/>
+ * An index may follow any property name and selects an element of an array, a
+ * {@link List} or any other {@link Iterable}.
+ */
+final class PropertyPath {
+    /**
+     * Returned by {@link #read(Object, Description)} when the end of the path could not be reached.
+     */
+    static final Object UNREADABLE = new Object();
+
+    private static final Object NO_ELEMENT = new Object();
+
+    private final Segment[] segments;
+
+    private PropertyPath(Segment[] segments) {
+        this.segments = segments;
+    }
+
+    /**
+     * @return true if <var>propertyName</var> reaches beyond a single property of a bean
+     */
+    static boolean isPath(String propertyName) {
+        return propertyName.indexOf('.') >= 0 || propertyName.indexOf('[') >= 0;
+    }
+
+    static PropertyPath parse(String path) throws IllegalArgumentException {
+        final List<Segment> segments = new ArrayList<Segment>();
+        final int length = path.length();
+        int position = 0;
+        while (true) {
+            final int start = position;
+            while (position < length && path.charAt(position) != '.' && path.charAt(position) != '[') {
+                position++;
+            }
+            if (position == start) {
+                throw invalid(path);
+            }
+            final String name = path.substring(start, position);
+            final List<Integer> indices = new ArrayList<Integer>(1);
+            while (position < length && path.charAt(position) == '[') {
+                final int close = path.indexOf(']', position);
+                if (close < 0) {
+                    throw invalid(path);
+                }
+                indices.add(indexIn(path, position + 1, close));
+                position = close + 1;
+            }
+            segments.add(new Segment(start == 0 ? "" : path.substring(0, start - 1), name, indices));
+            if (position == length) {
+                break;
+            }
+            if (path.charAt(position) != '.' || position + 1 == length) {
+                throw invalid(path);
+            }
+            position++;
+        }
+        return new PropertyPath(segments.toArray(new Segment[segments.size()]));
+    }
+
+    /**
+     * Walks the path from <var>bean</var>.
+     *
+     * @return the value at the end of the path or, having described to <var>mismatch</var>
+     *     the segment that could not be read, {@link #UNREADABLE}
+     */
+    Object read(Object bean, Description mismatch) {
+        Object current = bean;
+        for (Segment segment : segments) {
+            if (current == null) {
+                mismatch.appendText("property '" + segment.parent + "' was null");
+                return UNREADABLE;
+            }
+            current = segment.read(current, mismatch);
+            if (current == UNREADABLE) {
+                return UNREADABLE;
+            }
+        }
+        return current;
+    }
+
+    private static int indexIn(String path, int start, int end) {
+        try {
+            final int index = Integer.parseInt(path.substring(start, end));
+            if (index < 0) {
+                throw invalid(path);
+            }
+            return index;
+        } catch (NumberFormatException e) {
+            throw invalid(path);
+        }
+    }
+
+    private static IllegalArgumentException invalid(String path) {
+        return new IllegalArgumentException("Invalid property path \"" + path + "\"");
+    }
+
+    private static Object elementAt(Object indexable, int index) {
+        if (indexable.getClass().isArray()) {
+            return index < Array.getLength(indexable) ? Array.get(indexable, index) : NO_ELEMENT;
+        }
+        if (indexable instanceof List) {
+            final List<?> list = (List<?>) indexable;
+            return index < list.size() ? list.get(index) : NO_ELEMENT;
+        }
+        final Iterator<?> iterator = ((Iterable<?>) indexable).iterator();
+        for (int i = 0; i < index && iterator.hasNext(); i++) {
+            iterator.next();
+        }
+        return iterator.hasNext() ? iterator.next() : NO_ELEMENT;
+    }
+
+    private static boolean isIndexable(Object value) {
+        return value.getClass().isArray() || value instanceof Iterable;
+    }
+
+    private static final class Segment {
+        final String parent;
+        private final String name;
+        private final String pathToProperty;
+        private final int[] indices;
+        private final String[] pathToElements;
+        private volatile HasPropertyWithValue.BoundAccessor lastAccessor;
+
+        Segment(String parent, String name, List<Integer> indices) {
+            this.parent = parent;
+            this.name = name;
+            this.pathToProperty = parent.length() == 0 ? name : parent + "." + name;
+            this.indices = new int[indices.size()];
+            this.pathToElements = new String[indices.size()];
+            String pathToElement = pathToProperty;
+            for (int i = 0; i < this.indices.length; i++) {
+                this.indices[i] = indices.get(i);
+                this.pathToElements[i] = pathToElement;
+                pathToElement = pathToElement + "[" + this.indices[i] + "]";
+            }
+        }
+
+        Object read(Object bean, Description mismatch) {
+            final PropertyAccessor accessor = accessorFor(bean.getClass());
+            if (accessor == null) {
+                mismatch.appendText("No property \"" + pathToProperty + "\"");
+                return UNREADABLE;
+            }
+            if (!accessor.isReadable()) {
+                mismatch.appendText("property \"" + pathToProperty + "\" is not readable");
+                return UNREADABLE;
+            }
+            Object value;
+            try {
+                value = accessor.read(bean);
+            } catch (InvocationTargetException e) {
+                mismatch.appendText("property '" + pathToProperty + "' threw " + e.getCause());
+                return UNREADABLE;
+            } catch (Exception e) {
+                mismatch.appendText("property '" + pathToProperty + "' could not be read: " + e.getMessage());
+                return UNREADABLE;
+            }
+            for (int i = 0; i < indices.length; i++) {
+                if (value == null) {
+                    mismatch.appendText("property '" + pathToElements[i] + "' was null");
+                    return UNREADABLE;
+                }
+                if (!isIndexable(value)) {
+                    mismatch.appendText("property '" + pathToElements[i] + "' is not indexable");
+                    return UNREADABLE;
+                }
+                value = elementAt(value, indices[i]);
+                if (value == NO_ELEMENT) {
+                    mismatch.appendText("property '" + pathToElements[i] + "' has no element [" + indices[i] + "]");
+                    return UNREADABLE;
+                }
+            }
+            return value;
+        }
+
+        private PropertyAccessor accessorFor(Class<?> beanClass) {
+            final HasPropertyWithValue.BoundAccessor last = lastAccessor;
+            if (last != null && last.beanClass == beanClass) {
+                return last.accessor;
+            }
+            final PropertyAccessor accessor = PropertyUtil.propertiesOf(beanClass, null).accessor(name);
+            lastAccessor = new HasPropertyWithValue.BoundAccessor(beanClass, accessor);
+            return accessor;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package org.hamcrest.beans;
+
+import org.hamcrest.*;
+import org.hamcrest.internal.Descriptions;
+import org.hamcrest.internal.ClassCache;
+
+import java.beans.PropertyDescriptor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.core.IsEqual.equalTo;
+
+public class SamePropertyValuesAs<T> extends TypeSafeDiagnosingMatcher<T> {
+    private static final ClassCache<ComparisonPlan> PLANS = new ClassCache<ComparisonPlan>() {
+        @Override
+        protected ComparisonPlan computeValue(Class<?> expectedType) {
+            return new ComparisonPlan(PropertyUtil.propertiesOf(expectedType, Object.class));
+        }
+    };
+
+    private final T expectedBean;
+    private final ComparisonPlan plan;
+    private final List<PropertyMatcher> propertyMatchers;
+    private volatile ExtraProperties lastExtraProperties;
+
+
+    public SamePropertyValuesAs(T expectedBean) {
+        this.expectedBean = expectedBean;
+        this.plan = planFor(expectedBean.getClass());
+        this.propertyMatchers = propertyMatchersFor(expectedBean, plan.accessors);
+    }
+
+    @Override
+    public boolean matchesSafely(T bean, Description mismatch) {
+        return isCompatibleType(bean, mismatch)
+                && hasNoExtraProperties(bean, mismatch)
+                && hasMatchingValues(bean, mismatch);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("same property values as " + expectedBean.getClass().getSimpleName())
+                   .appendList(" [", ", ", "]", propertyMatchers);
+    }
+
+
+    private boolean isCompatibleType(T item, Description mismatchDescription) {
+        if (!expectedBean.getClass().isAssignableFrom(item.getClass())) {
+            mismatchDescription.appendText("is incompatible type: " + item.getClass().getSimpleName());
+            return false;
+        }
+        return true;
+    }
+
+    private boolean hasNoExtraProperties(T item, Description mismatchDescription) {
+        ExtraProperties extra = lastExtraProperties;
+        if (extra == null || extra.actualType != item.getClass()) {
+            extra = new ExtraProperties(item.getClass(), plan.extraPropertiesOf(item.getClass()));
+            lastExtraProperties = extra;
+        }
+        if (extra.names.length > 0) {
+            mismatchDescription.appendText("has extra properties called " + Arrays.asList(extra.names));
+            return false;
+        }
+        return true;
+    }
+
+    private boolean hasMatchingValues(T item, Description mismatchDescription) {
+        boolean matches = true;
+        for (int i = 0; i < propertyMatchers.size(); i++) {
+            final PropertyMatcher propertyMatcher = propertyMatchers.get(i);
+            if (!propertyMatcher.matches(item)) {
+                if (!Descriptions.isEnabled(mismatchDescription)) {
+                    return false;
+                }
+                if (!matches) {
+                    mismatchDescription.appendText(", ");
+                }
+                propertyMatcher.describeMismatch(item, mismatchDescription);
+                matches = false;
+            }
+        }
+        return matches;
+    }
+
+    private static ComparisonPlan planFor(Class<?> expectedType) {
+        final ComparisonPlan plan = PLANS.get(expectedType);
+        if (plan.properties != PropertyUtil.propertiesOf(expectedType, Object.class)) {
+            PLANS.remove(expectedType);
+            return PLANS.get(expectedType);
+        }
+        return plan;
+    }
+
+    private static <T> List<PropertyMatcher> propertyMatchersFor(T bean, PropertyAccessor[] accessors) {
+        List<PropertyMatcher> result = new ArrayList<PropertyMatcher>(accessors.length);
+        for (PropertyAccessor accessor : accessors) {
+            result.add(new PropertyMatcher(accessor, bean));
+        }
+        return result;
+    }
+
+    private static Set<String> propertyNamesFrom(PropertyDescriptor[] descriptors) {
+        HashSet<String> result = new HashSet<String>();
+        for (PropertyDescriptor propertyDescriptor : descriptors) {
+            result.add(propertyDescriptor.getDisplayName());
+        }
+        return result;
+    }
+
+    /**
+     * What comparing against beans of one expected class needs: the bound accessors of
+     * its properties and, for each class of bean it has been compared with, the names
+     * of the properties that class has in addition.
+     */
+    private static final class ComparisonPlan {
+        final PropertyUtil.BeanProperties properties;
+        final PropertyAccessor[] accessors;
+        private final Set<String> propertyNames;
+        private final ClassCache<String[]> extraProperties = new ClassCache<String[]>() {
+            @Override
+            protected String[] computeValue(Class<?> actualType) {
+                final Set<String> extra = propertyNamesFrom(PropertyUtil.propertiesOf(actualType, Object.class).descriptors);
+                extra.removeAll(propertyNames);
+                return extra.toArray(new String[extra.size()]);
+            }
+        };
+
+        ComparisonPlan(PropertyUtil.BeanProperties properties) {
+            this.properties = properties;
+            this.accessors = properties.accessors;
+            this.propertyNames = propertyNamesFrom(properties.descriptors);
+        }
+
+        String[] extraPropertiesOf(Class<?> actualType) {
+            return extraProperties.get(actualType);
+        }
+    }
+
+    private static final class ExtraProperties {
+        final Class<?> actualType;
+        final String[] names;
+
+        ExtraProperties(Class<?> actualType, String[] names) {
+            this.actualType = actualType;
+            this.names = names;
+        }
+    }
+
+    public static class PropertyMatcher extends DiagnosingMatcher<Object> {
+        private final PropertyAccessor accessor;
+        private final Matcher<Object> matcher;
+        private final String propertyName;
+
+        public PropertyMatcher(PropertyDescriptor descriptor, Object expectedObject) {
+            this(new PropertyAccessor(descriptor), expectedObject);
+        }
+
+        PropertyMatcher(PropertyAccessor accessor, Object expectedObject) {
+            this.propertyName = accessor.descriptor().getDisplayName();
+            this.accessor = accessor;
+            this.matcher = equalTo(readProperty(accessor, expectedObject));
+        }
+
+        @Override
+        public boolean matches(Object actual, Description mismatch) {
+            final Object actualValue = readProperty(accessor, actual);
+            if (!matcher.matches(actualValue)) {
+                mismatch.appendText(propertyName + " ");
+                matcher.describeMismatch(actualValue, mismatch);
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendText(propertyName + ": ").appendDescriptionOf(matcher);
+        }
+    }
+
+    private static Object readProperty(PropertyAccessor accessor, Object target) {
+        try {
+            return accessor.read(target);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Could not invoke " + accessor.readMethod() + " on " + target, e);
+        }
+    }
+
+    /**
+     * Creates a matcher that matches when the examined object has values for all of
+     * its JavaBean properties that are equal to the corresponding values of the
+     * specified bean.
+     * <p/>
+     * For example:
+     * <pre>assertThat(myBean, samePropertyValuesAs(myExpectedBean))</pre>
+     * 
+     * @param expectedBean
+     *     the bean against which examined beans are compared
+     */
+    @Factory
+    public static <T> Matcher<T> samePropertyValuesAs(T expectedBean) {
+        return new SamePropertyValuesAs<T>(expectedBean);
+    }
+
+}
@@ -0,0 +1,215 @@
+package org.hamcrest.collection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A maximum matching between examined items and matchers. Each item is paired, as it is
+ * added, with the first free matcher that accepts it, which evaluates only as many matchers
+ * as it takes to find one. Only when some item finds every matcher that accepts it already
+ * taken is the Hopcroft-Karp algorithm run, in O(E&radic;V).
+ * <p/>
+ * Which matchers accept an item is kept as a sparse row of matcher indices, and the rest of
+ * a row is evaluated only when a search reaches its item, so no matcher is ever evaluated
+ * twice against the same item, and memory grows with the number of acceptances found rather
+ * than with the number of items times matchers. Augmenting paths are followed iteratively,
+ * so long paths cannot overflow the stack.
+ */
+final class BipartiteMatching {
+    private static final int UNMATCHED = -1;
+    private static final int UNREACHED = Integer.MAX_VALUE;
+
+    /**
+     * Tells whether a matcher accepts an item. It is asked at most once for each pair.
+     */
+    interface Acceptance {
+        boolean accepts(int item, int matcher);
+    }
+
+    private final int matcherCount;
+    private final Acceptance acceptance;
+    private final List<Row> rows = new ArrayList<Row>();
+    private final int[] matcherOfItem;
+    private final int[] itemOfMatcher;
+    private int size;
+
+    /**
+     * @param matcherCount the number of matchers, which is also the most items that can be added
+     */
+    BipartiteMatching(int matcherCount, Acceptance acceptance) {
+        this.matcherCount = matcherCount;
+        this.acceptance = acceptance;
+        this.matcherOfItem = new int[matcherCount];
+        this.itemOfMatcher = new int[matcherCount];
+        Arrays.fill(matcherOfItem, UNMATCHED);
+        Arrays.fill(itemOfMatcher, UNMATCHED);
+    }
+
+    /**
+     * Adds the next item, and pairs it with the first free matcher that accepts it, if any.
+     *
+     * @return false if no matcher accepts the item
+     */
+    boolean add() {
+        final int item = rows.size();
+        final Row row = new Row();
+        rows.add(row);
+        while (row.scanned < matcherCount) {
+            final int matcher = row.scanned++;
+            if (acceptance.accepts(item, matcher)) {
+                row.add(matcher);
+                if (itemOfMatcher[matcher] == UNMATCHED) {
+                    pair(item, matcher);
+                    size++;
+                    return true;
+                }
+            }
+        }
+        return row.count > 0;
+    }
+
+    int itemCount() {
+        return rows.size();
+    }
+
+    /**
+     * Finds a maximum matching for the items added so far.
+     *
+     * @return the number of matched items
+     */
+    int solve() {
+        final int itemCount = rows.size();
+        if (size == itemCount) {
+            return size;
+        }
+        final int[] layer = new int[itemCount];
+        final int[] next = new int[itemCount];
+        final int[] via = new int[itemCount];
+        final int[] stack = new int[itemCount];
+        final int[] queue = new int[itemCount];
+        while (size < Math.min(itemCount, matcherCount) && layer(layer, queue)) {
+            Arrays.fill(next, 0);
+            for (int item = 0; item < itemCount; item++) {
+                if (matcherOfItem[item] == UNMATCHED && augment(item, layer, next, via, stack)) {
+                    size++;
+                }
+            }
+        }
+        return size;
+    }
+
+    int matcherOf(int item) {
+        return matcherOfItem[item];
+    }
+
+    int itemOf(int matcher) {
+        return itemOfMatcher[matcher];
+    }
+
+    /**
+     * Layers the items by the length of the shortest alternating path from an unmatched item.
+     *
+     * @return true if some unmatched matcher is reachable, so an augmenting path exists
+     */
+    private boolean layer(int[] layer, int[] queue) {
+        final boolean[] reachedMatchers = new boolean[matcherCount];
+        int head = 0;
+        int tail = 0;
+        for (int item = 0; item < layer.length; item++) {
+            if (matcherOfItem[item] == UNMATCHED) {
+                layer[item] = 0;
+                queue[tail++] = item;
+            } else {
+                layer[item] = UNREACHED;
+            }
+        }
+
+        boolean foundFreeMatcher = false;
+        while (head < tail) {
+            final int item = queue[head++];
+            for (int i = 0, matcher = acceptor(item, 0); matcher >= 0; matcher = acceptor(item, ++i)) {
+                if (reachedMatchers[matcher]) {
+                    continue;
+                }
+                reachedMatchers[matcher] = true;
+                final int owner = itemOfMatcher[matcher];
+                if (owner == UNMATCHED) {
+                    foundFreeMatcher = true;
+                } else if (layer[owner] == UNREACHED) {
+                    layer[owner] = layer[item] + 1;
+                    queue[tail++] = owner;
+                }
+            }
+        }
+        return foundFreeMatcher;
+    }
+
+    /**
+     * Depth-first search for an augmenting path from <var>root</var> that follows the layers.
+     * <var>next</var> remembers, per item, how many of its acceptors have been tried in this phase.
+     */
+    private boolean augment(int root, int[] layer, int[] next, int[] via, int[] stack) {
+        int depth = 0;
+        stack[depth++] = root;
+        while (depth > 0) {
+            final int item = stack[depth - 1];
+            final int matcher = acceptor(item, next[item]);
+            if (matcher < 0) {
+                layer[item] = UNREACHED;
+                depth--;
+                continue;
+            }
+            next[item]++;
+            final int owner = itemOfMatcher[matcher];
+            if (owner == UNMATCHED) {
+                via[item] = matcher;
+                for (int i = 0; i < depth; i++) {
+                    pair(stack[i], via[stack[i]]);
+                }
+                return true;
+            }
+            if (layer[owner] == layer[item] + 1) {
+                via[item] = matcher;
+                stack[depth++] = owner;
+            }
+        }
+        return false;
+    }
+
+    private void pair(int item, int matcher) {
+        matcherOfItem[item] = matcher;
+        itemOfMatcher[matcher] = item;
+    }
+
+    /**
+     * @return the <var>index</var>th matcher that accepts <var>item</var>, or -1 if there
+     *     are no more, evaluating as many more matchers as it takes to tell
+     */
+    private int acceptor(int item, int index) {
+        final Row row = rows.get(item);
+        while (index >= row.count && row.scanned < matcherCount) {
+            final int matcher = row.scanned++;
+            if (acceptance.accepts(item, matcher)) {
+                row.add(matcher);
+            }
+        }
+        return (index < row.count) ? row.matchers[index] : -1;
+    }
+
+    /**
+     * The matchers found so far to accept one item, in order, and how many matchers have been asked.
+     */
+    private static final class Row {
+        int[] matchers = new int[1];
+        int count;
+        int scanned;
+
+        void add(int matcher) {
+            if (count == matchers.length) {
+                matchers = Arrays.copyOf(matchers, 2 * count);
+            }
+            matchers[count++] = matcher;
+        }
+    }
+}
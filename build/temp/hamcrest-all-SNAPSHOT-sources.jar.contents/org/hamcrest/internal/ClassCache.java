@@ -0,0 +1,150 @@
+package org.hamcrest.internal;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lazily computes a value for a class and remembers it, in the manner of
+ * <code>java.lang.ClassValue</code> (which is not available on every JVM that Hamcrest
+ * supports). Classes are held weakly and values softly, so a cache entry never keeps
+ * a class, or the class loader that defined it, from being unloaded.
+ * <p/>
+ * Lookups take no lock, and values are computed outside any lock, so two threads may
+ * occasionally compute the value for the same class; <code>computeValue</code> must
+ * therefore be free of side effects.
+ *
+ * @param <V> the type of the cached values
+ */
+public abstract class ClassCache<V> {
+    private final ConcurrentMap<ClassKey, Reference<V>> values = new ConcurrentHashMap<ClassKey, Reference<V>>();
+    private final ReferenceQueue<Class<?>> unloaded = new ReferenceQueue<Class<?>>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Computes the value for a class that is not in the cache.
+     *
+     * @param type the class to compute a value for
+     * @return the value, which must not be null
+     */
+    protected abstract V computeValue(Class<?> type);
+
+    /**
+     * Returns the value for <var>type</var>, computing and caching it on first use.
+     */
+    public V get(Class<?> type) {
+        final Reference<V> cached = values.get(new Lookup(type));
+        final V cachedValue = (cached == null) ? null : cached.get();
+        if (cachedValue != null) {
+            hits.incrementAndGet();
+            return cachedValue;
+        }
+        misses.incrementAndGet();
+        expungeUnloaded();
+        final V value = computeValue(type);
+        values.put(new WeakKey(type, unloaded), new SoftReference<V>(value));
+        return value;
+    }
+
+    /**
+     * Discards the value cached for <var>type</var>, if any.
+     */
+    public void remove(Class<?> type) {
+        values.remove(new Lookup(type));
+    }
+
+    /**
+     * Discards every cached value, for example after classes have been redeployed.
+     */
+    public void clear() {
+        values.clear();
+        expungeUnloaded();
+    }
+
+    /**
+     * @return the number of lookups answered from the cache
+     */
+    public long hitCount() {
+        return hits.get();
+    }
+
+    /**
+     * @return the number of lookups that had to compute a value
+     */
+    public long missCount() {
+        return misses.get();
+    }
+
+    private void expungeUnloaded() {
+        for (Reference<?> key = unloaded.poll(); key != null; key = unloaded.poll()) {
+            values.remove(key);
+        }
+    }
+
+    /**
+     * A class used as a key, compared by identity.
+     */
+    private interface ClassKey {
+        Class<?> type();
+    }
+
+    private static boolean equal(ClassKey key, Object other) {
+        if (key == other) {
+            return true;
+        }
+        final Class<?> type = key.type();
+        return type != null && other instanceof ClassKey && type == ((ClassKey) other).type();
+    }
+
+    /**
+     * The key of an entry, which lets its class be unloaded.
+     */
+    private static final class WeakKey extends WeakReference<Class<?>> implements ClassKey {
+        private final int hash;
+
+        WeakKey(Class<?> type, ReferenceQueue<Class<?>> queue) {
+            super(type, queue);
+            this.hash = System.identityHashCode(type);
+        }
+
+        @Override public Class<?> type() {
+            return get();
+        }
+
+        @Override public boolean equals(Object other) {
+            return equal(this, other);
+        }
+
+        @Override public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * A key to look an entry up with, which is cheaper to make than a {@link WeakKey}.
+     */
+    private static final class Lookup implements ClassKey {
+        private final Class<?> type;
+
+        Lookup(Class<?> type) {
+            this.type = type;
+        }
+
+        @Override public Class<?> type() {
+            return type;
+        }
+
+        @Override public boolean equals(Object other) {
+            return equal(this, other);
+        }
+
+        @Override public int hashCode() {
+            return System.identityHashCode(type);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package org.hamcrest.internal;
+
+import org.hamcrest.Description;
+import org.hamcrest.SelectiveDescription;
+
+public final class Descriptions {
+    private Descriptions() { }
+
+    /**
+     * @return false if <var>description</var> is a {@link SelectiveDescription} that
+     *     discards what is appended to it
+     */
+    public static boolean isEnabled(Description description) {
+        return !(description instanceof SelectiveDescription) || ((SelectiveDescription) description).isEnabled();
+    }
+}
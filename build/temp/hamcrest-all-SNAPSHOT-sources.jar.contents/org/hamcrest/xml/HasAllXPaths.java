@@ -0,0 +1,221 @@
+package org.hamcrest.xml;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+import org.hamcrest.MatchResult;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.hamcrest.internal.DeferredDescription;
+import org.hamcrest.internal.Descriptions;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+/**
+ * Matches a document against many XPath matchers at once, as
+ * {@link org.hamcrest.core.AllOf} would, and with the same description and mismatch.
+ * <p/>
+ * Rather than each expression searching the document in turn, the {@link HasXPath}
+ * matchers whose expressions are absolute paths in the subset supported by
+ * {@link HasStreamedXPath} are evaluated together, in a single walk over the document
+ * that ends once every one of them is decided. Other expressions, and other matchers,
+ * are evaluated separately as before.
+ */
+public class HasAllXPaths extends TypeSafeDiagnosingMatcher<Node> {
+    private final List<Matcher<? super Node>> matchers;
+    private final StreamingPath[] paths;
+
+    public HasAllXPaths(Iterable<Matcher<? super Node>> matchers) {
+        this.matchers = new ArrayList<Matcher<? super Node>>();
+        for (Matcher<? super Node> matcher : matchers) {
+            this.matchers.add(matcher);
+        }
+        this.paths = new StreamingPath[this.matchers.size()];
+        for (int i = 0; i < paths.length; i++) {
+            paths[i] = streamablePathOf(this.matchers.get(i));
+        }
+    }
+
+    @Override
+    protected boolean matchesSafely(Node item, Description mismatch) {
+        final StreamingPath.Evaluation[] evaluations = evaluationsOver(item);
+        if (!Descriptions.isEnabled(mismatch)) {
+            for (int i = 0; i < matchers.size(); i++) {
+                final boolean matched = (evaluations[i] != null)
+                        ? ((HasXPath) matchers.get(i)).matchesValue(evaluations[i].value(), Description.NONE)
+                        : matchers.get(i).matches(item);
+                if (!matched) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        for (int i = 0; i < matchers.size(); i++) {
+            final Matcher<? super Node> matcher = matchers.get(i);
+            final MatchResult result = (evaluations[i] != null)
+                    ? valueResult((HasXPath) matcher, evaluations[i].value())
+                    : evaluate(matcher, item);
+            if (!result.matched()) {
+                mismatch.appendDescriptionOf(matcher).appendText(" ");
+                result.describeMismatch(mismatch);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendList("(", " and ", ")", matchers);
+    }
+
+    /**
+     * @return the decided evaluation of each streamable path over the document, or
+     *     none if <var>item</var> is not a document
+     */
+    private StreamingPath.Evaluation[] evaluationsOver(Node item) {
+        final StreamingPath.Evaluation[] evaluations = new StreamingPath.Evaluation[paths.length];
+        if (!(item instanceof Document)) {
+            return evaluations;
+        }
+        for (int i = 0; i < paths.length; i++) {
+            if (paths[i] != null) {
+                evaluations[i] = paths[i].evaluation();
+            }
+        }
+        new Walk(evaluations).over(item);
+        return evaluations;
+    }
+
+    private static MatchResult valueResult(HasXPath matcher, String value) {
+        final DeferredDescription mismatch = new DeferredDescription();
+        return matcher.matchesValue(value, mismatch) ? MatchResult.MATCHED : mismatch.asMismatch();
+    }
+
+    private static StreamingPath streamablePathOf(Matcher<?> matcher) {
+        if (!(matcher instanceof HasXPath)) {
+            return null;
+        }
+        try {
+            return StreamingPath.parse(((HasXPath) matcher).expression());
+        } catch (IllegalArgumentException notStreamable) {
+            return null;
+        }
+    }
+
+    /**
+     * Feeds the nodes of a document, in document order, to the evaluations that are still
+     * undecided, and stops when there are none.
+     */
+    private static final class Walk implements StreamingPath.Element {
+        private final StreamingPath.Evaluation[] evaluations;
+        private Element current;
+
+        Walk(StreamingPath.Evaluation[] evaluations) {
+            this.evaluations = evaluations;
+        }
+
+        void over(Node root) {
+            Node node = root.getFirstChild();
+            while (node != null && !allDecided()) {
+                final short type = node.getNodeType();
+                if (type == Node.ELEMENT_NODE) {
+                    current = (Element) node;
+                    for (StreamingPath.Evaluation evaluation : evaluations) {
+                        if (evaluation != null) {
+                            evaluation.startElement(this);
+                        }
+                    }
+                    if (node.getFirstChild() != null) {
+                        node = node.getFirstChild();
+                        continue;
+                    }
+                    endElement();
+                } else if (type == Node.TEXT_NODE || type == Node.CDATA_SECTION_NODE
+                           || type == Node.ENTITY_REFERENCE_NODE) {
+                    final String text = node.getTextContent();
+                    for (StreamingPath.Evaluation evaluation : evaluations) {
+                        if (evaluation != null) {
+                            evaluation.text(text);
+                        }
+                    }
+                }
+                while (node != root && node.getNextSibling() == null) {
+                    node = node.getParentNode();
+                    if (node != root) {
+                        endElement();
+                    }
+                }
+                node = (node == root) ? null : node.getNextSibling();
+            }
+        }
+
+        @Override
+        public String namespaceURI() {
+            return current.getNamespaceURI();
+        }
+
+        @Override
+        public String localName() {
+            return (current.getLocalName() != null) ? current.getLocalName() : current.getNodeName();
+        }
+
+        @Override
+        public String attribute(String name) {
+            return current.hasAttribute(name) ? current.getAttribute(name) : null;
+        }
+
+        private void endElement() {
+            for (StreamingPath.Evaluation evaluation : evaluations) {
+                if (evaluation != null) {
+                    evaluation.endElement();
+                }
+            }
+        }
+
+        private boolean allDecided() {
+            for (StreamingPath.Evaluation evaluation : evaluations) {
+                if (evaluation != null && !evaluation.isDecided()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Creates a matcher of {@link org.w3c.dom.Node}s that matches when the examined node
+     * matches all of the specified matchers, which are usually <code>hasXPath</code>
+     * matchers. Expressions that can be are evaluated together, in one pass over the document.
+     * <p/>
+     * For example:
+     * <pre>assertThat(xml, hasAllXPaths(hasXPath("/order/@id", equalTo("42")), hasXPath("/order/line[2]/@sku")))</pre>
+     *
+     * @param matchers
+     *     the matchers for the examined node
+     */
+    @Factory
+    public static Matcher<Node> hasAllXPaths(Matcher<? super Node>... matchers) {
+        return hasAllXPaths(Arrays.asList(matchers));
+    }
+
+    /**
+     * Creates a matcher of {@link org.w3c.dom.Node}s that matches when the examined node
+     * matches all of the specified matchers, which are usually <code>hasXPath</code>
+     * matchers. Expressions that can be are evaluated together, in one pass over the document.
+     * <p/>
+     * For example:
+     * <pre>assertThat(xml, hasAllXPaths(orderChecks))</pre>
+     *
+     * @param matchers
+     *     the matchers for the examined node
+     */
+    @Factory
+    public static Matcher<Node> hasAllXPaths(Iterable<Matcher<? super Node>> matchers) {
+        return new HasAllXPaths(matchers);
+    }
+}
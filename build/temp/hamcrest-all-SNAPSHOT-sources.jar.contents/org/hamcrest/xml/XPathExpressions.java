@@ -0,0 +1,115 @@
+package org.hamcrest.xml;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+
+/**
+ * Compiled XPath expressions, shared between matchers and threads.
+ * <p/>
+ * JAXP guarantees neither an {@link XPathFactory} nor an {@link XPathExpression} to be
+ * thread-safe, so the factory is looked up once and used under a lock, and each distinct
+ * expression has a {@link Pool} of compiled instances from which a thread borrows one for
+ * the duration of an evaluation. The pools of the most recently used expressions without
+ * a namespace context are kept, so that matchers for the same expression share them. A pool
+ * for an expression with a namespace context belongs to the matcher that asked for it, so
+ * that the context is never held beyond the matcher's lifetime.
+ */
+final class XPathExpressions {
+    static final int MAX_CACHED_EXPRESSIONS = 256;
+    private static final int POOL_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    private static final XPathFactory FACTORY = XPathFactory.newInstance();
+    private static final AtomicLong COMPILATIONS = new AtomicLong();
+
+    private static final Map<String, Pool> POOLS = new LinkedHashMap<String, Pool>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Pool> eldest) {
+            return size() > MAX_CACHED_EXPRESSIONS;
+        }
+    };
+
+    private XPathExpressions() { }
+
+    /**
+     * @return the pool of compiled instances of <var>expression</var>, shared with other
+     *         callers only if <var>namespaceContext</var> is null
+     * @throws IllegalArgumentException if the expression is not valid XPath
+     */
+    static Pool poolFor(String expression, NamespaceContext namespaceContext) throws IllegalArgumentException {
+        if (namespaceContext != null) {
+            return new Pool(expression, namespaceContext);
+        }
+        synchronized (POOLS) {
+            final Pool pool = POOLS.get(expression);
+            if (pool != null) {
+                return pool;
+            }
+        }
+        final Pool pool = new Pool(expression, null);
+        synchronized (POOLS) {
+            final Pool raced = POOLS.get(expression);
+            if (raced != null) {
+                return raced;
+            }
+            POOLS.put(expression, pool);
+        }
+        return pool;
+    }
+
+    static long compilationCount() {
+        return COMPILATIONS.get();
+    }
+
+    private static XPathExpression compile(String expression, NamespaceContext namespaceContext) {
+        COMPILATIONS.incrementAndGet();
+        try {
+            synchronized (FACTORY) {
+                final XPath xPath = FACTORY.newXPath();
+                if (namespaceContext != null) {
+                    xPath.setNamespaceContext(namespaceContext);
+                }
+                return xPath.compile(expression);
+            }
+        } catch (XPathExpressionException e) {
+            throw new IllegalArgumentException("Invalid XPath : " + expression, e);
+        }
+    }
+
+    /**
+     * Compiled instances of one expression. A thread {@link #borrow}s an instance, which
+     * no other thread will use until it is {@link #release}d. A new instance is compiled
+     * whenever none is idle, and instances beyond the pool's capacity are discarded on
+     * release.
+     */
+    static final class Pool {
+        private final String expression;
+        private final NamespaceContext namespaceContext;
+        private final BlockingQueue<XPathExpression> idle = new ArrayBlockingQueue<XPathExpression>(POOL_SIZE);
+
+        Pool(String expression, NamespaceContext namespaceContext) {
+            this.expression = expression;
+            this.namespaceContext = namespaceContext;
+            idle.offer(compile(expression, namespaceContext));
+        }
+
+        XPathExpression borrow() {
+            final XPathExpression compiled = idle.poll();
+            return (compiled != null) ? compiled : compile(expression, namespaceContext);
+        }
+
+        void release(XPathExpression compiled) {
+            idle.offer(compiled);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package org.hamcrest;
+
+/**
+ * The outcome of evaluating a {@link Matcher} against an item once. A failed result can
+ * describe why the item was rejected without evaluating the matcher again.
+ *
+ * @see BaseMatcher#evaluate(Matcher, Object)
+ */
+public interface MatchResult {
+    /**
+     * The result of an evaluation that matched.
+     */
+    static final MatchResult MATCHED = new Matched();
+
+    /**
+     * @return <code>true</code> if the item matched, otherwise <code>false</code>.
+     */
+    boolean matched();
+
+    /**
+     * Generate a description of why the matcher has not accepted the item.
+     * Does nothing if the item matched.
+     *
+     * @param mismatchDescription
+     *     The description to be built or appended to.
+     */
+    void describeMismatch(Description mismatchDescription);
+
+
+    public static final class Matched implements MatchResult {
+        private Matched() { }
+
+        @Override
+        public boolean matched() {
+            return true;
+        }
+
+        @Override
+        public void describeMismatch(Description mismatchDescription) {
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package org.hamcrest;
+
+import static java.lang.String.valueOf;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.hamcrest.internal.ArrayIterator;
+import org.hamcrest.internal.SelfDescribingValueIterator;
+
+/**
+ * A {@link Description} that is stored as a string.
+ */
+public abstract class BaseDescription implements Description {
+
+    @Override
+    public Description appendText(String text) {
+        append(text);
+        return this;
+    }
+    
+    @Override
+    public Description appendDescriptionOf(SelfDescribing value) {
+        value.describeTo(this);
+        return this;
+    }
+    
+    @Override
+    public Description appendValue(Object value) {
+        if (value == null) {
+            append("null");
+        } else if (value instanceof String) {
+            toJavaSyntax((String) value);
+        } else if (value instanceof Character) {
+            append('"');
+            toJavaSyntax((Character) value);
+            append('"');
+        } else if (value instanceof Short) {
+            append('<');
+            append(descriptionOf(value));
+            append("s>");
+        } else if (value instanceof Long) {
+            append('<');
+            append(descriptionOf(value));
+            append("L>");
+        } else if (value instanceof Float) {
+            append('<');
+            append(descriptionOf(value));
+            append("F>");
+        } else if (value instanceof Integer || value instanceof Double
+                   || value instanceof Boolean || value instanceof Byte) {
+            append('<');
+            append(descriptionOf(value));
+            append('>');
+        } else {
+            final ValueFormatter<Object> formatter = ValueFormatters.formatterFor(value.getClass());
+            if (formatter != null) {
+                formatter.describeValue(value, this);
+            } else if (value.getClass().isArray()) {
+                appendValueList("[",", ","]", new ArrayIterator(value));
+            } else {
+                append('<');
+                append(descriptionOf(value));
+                append('>');
+            }
+        }
+        return this;
+    }
+
+    private String descriptionOf(Object value) {
+        try {
+            return valueOf(value);
+        }
+        catch (Exception e) {
+            return value.getClass().getName() + "@" + Integer.toHexString(value.hashCode());
+        }
+    }
+
+    @Override
+    public <T> Description appendValueList(String start, String separator, String end, T... values) {
+        return appendValueList(start, separator, end, Arrays.asList(values));
+    }
+    
+    @Override
+    public <T> Description appendValueList(String start, String separator, String end, Iterable<T> values) {
+        return appendValueList(start, separator, end, values.iterator());
+    }
+    
+    private <T> Description appendValueList(String start, String separator, String end, Iterator<T> values) {
+        return appendList(start, separator, end, new SelfDescribingValueIterator<T>(values));
+    }
+    
+    @Override
+    public Description appendList(String start, String separator, String end, Iterable<? extends SelfDescribing> values) {
+        return appendList(start, separator, end, values.iterator());
+    }
+
+    private Description appendList(String start, String separator, String end, Iterator<? extends SelfDescribing> i) {
+        boolean separate = false;
+        
+        append(start);
+        while (i.hasNext()) {
+            if (separate) append(separator);
+            appendDescriptionOf(i.next());
+            separate = true;
+        }
+        append(end);
+        
+        return this;
+    }
+
+    /**
+     * Append the String <var>str</var> to the description.  
+     * The default implementation passes every character to {@link #append(char)}.  
+     * Override in subclasses to provide an efficient implementation.
+     */
+    protected void append(String str) {
+        for (int i = 0; i < str.length(); i++) {
+            append(str.charAt(i));
+        }
+    }
+    
+    /**
+     * Append the characters of <var>str</var> from <var>start</var> up to, but not
+     * including, <var>end</var> to the description.
+     * The default implementation passes a whole string to {@link #append(String)}, and
+     * otherwise every character to {@link #append(char)}.
+     * Override in subclasses to provide an efficient implementation.
+     */
+    protected void append(String str, int start, int end) {
+        if (start == 0 && end == str.length()) {
+            append(str);
+            return;
+        }
+        for (int i = start; i < end; i++) {
+            append(str.charAt(i));
+        }
+    }
+
+    /**
+     * Append the char <var>c</var> to the description.  
+     */
+    protected abstract void append(char c);
+
+    /**
+     * Copies the runs of characters between escapes in one go, rather than one by one.
+     */
+    private void toJavaSyntax(String unformatted) {
+        append('"');
+        int start = 0;
+        for (int i = 0; i < unformatted.length(); i++) {
+            final String escaped = escapeOf(unformatted.charAt(i));
+            if (escaped != null) {
+                if (start < i) {
+                    append(unformatted, start, i);
+                }
+                append(escaped);
+                start = i + 1;
+            }
+        }
+        if (start < unformatted.length()) {
+            append(unformatted, start, unformatted.length());
+        }
+        append('"');
+    }
+
+    private void toJavaSyntax(char ch) {
+        final String escaped = escapeOf(ch);
+        if (escaped == null) {
+            append(ch);
+        } else {
+            append(escaped);
+        }
+    }
+
+    private static String escapeOf(char ch) {
+        switch (ch) {
+            case '"':
+                return "\\\"";
+            case '\n':
+                return "\\n";
+            case '\r':
+                return "\\r";
+            case '\t':
+                return "\\t";
+            default:
+                return null;
+        }
+    }
+}
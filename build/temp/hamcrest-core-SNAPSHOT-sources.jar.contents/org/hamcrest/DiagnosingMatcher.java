@@ -0,0 +1,29 @@
+package org.hamcrest;
+
+import org.hamcrest.internal.DeferredDescription;
+
+/**
+ * TODO(ngd): Document.
+ *
+ * @param <T>
+ */
+public abstract class DiagnosingMatcher<T> extends BaseMatcher<T> {
+
+    @Override
+    public final boolean matches(Object item) {
+        return matches(item, Description.NONE);
+    }
+
+    @Override
+    public final void describeMismatch(Object item, Description mismatchDescription) {
+        matches(item, mismatchDescription);
+    }
+
+    @Override
+    public MatchResult evaluate(Object item) {
+        final DeferredDescription mismatch = new DeferredDescription();
+        return matches(item, mismatch) ? MatchResult.MATCHED : mismatch.asMismatch();
+    }
+
+    protected abstract boolean matches(Object item, Description mismatchDescription);
+}
@@ -0,0 +1,51 @@
+package org.hamcrest;
+
+/**
+ * An {@link AssertionError} for failures that are expected and handled, such as
+ * invariant checks in production code. It records no stack trace and renders its
+ * message only when {@link #getMessage()} is first called, so a failure that is caught
+ * and discarded costs little more than the match itself.
+ * <p/>
+ * The message is limited in size as {@link MatcherAssert#setMessageLimits} says, and
+ * describes the failure as it is when first rendered, so it may not reflect
+ * the examined value as it was when the assertion failed if that value has since changed.
+ *
+ * @see MatcherAssert#stackless()
+ */
+public class StacklessAssertionError extends AssertionError {
+    private static final long serialVersionUID = 1L;
+
+    private final transient SelfDescribing failure;
+    private volatile String message;
+
+    /**
+     * @param failure describes the failure, when the message is asked for
+     */
+    public StacklessAssertionError(SelfDescribing failure) {
+        this.failure = failure;
+    }
+
+    @Override
+    public String getMessage() {
+        String rendered = message;
+        if (rendered == null) {
+            rendered = MatcherAssert.messageOf(failure);
+            message = rendered;
+        }
+        return rendered;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+
+    /**
+     * The failure may not be serializable, so serialize a plain error with the rendered message.
+     */
+    private Object writeReplace() {
+        final AssertionError replacement = new AssertionError(getMessage());
+        replacement.setStackTrace(getStackTrace());
+        return replacement;
+    }
+}
@@ -0,0 +1,330 @@
+package org.hamcrest;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A {@link Description} that records what is appended to it as a tree, and formats
+ * nothing until it is rendered: as text with {@link #toString()}, exactly as a
+ * {@link StringDescription} would have it, as limited text with
+ * {@link #toString(BoundedDescription.Limits)}, or as JSON with {@link #toJson()}.
+ * It can also be appended to any other description, as a {@link SelfDescribing}.
+ * <p/>
+ * A {@link SelfDescribing} appended on its own is described into the tree as it is
+ * appended. Values, and the iterables of lists, are kept by reference and read only when
+ * the tree is rendered, so a value that has changed since is rendered as it is then, and
+ * rendering within limits reads no more of a list than it shows. An iterable that can be
+ * iterated only once can be rendered only once.
+ */
+public class StructuredDescription implements Description, SelfDescribing {
+    private final List<Node> nodes = new ArrayList<Node>(4);
+
+    @Override
+    public Description appendText(String text) {
+        nodes.add(new Text(text));
+        return this;
+    }
+
+    @Override
+    public Description appendDescriptionOf(SelfDescribing value) {
+        nodes.add(new Nested(structureOf(value)));
+        return this;
+    }
+
+    @Override
+    public Description appendValue(Object value) {
+        nodes.add(new Value(value));
+        return this;
+    }
+
+    @Override
+    public <T> Description appendValueList(String start, String separator, String end, T... values) {
+        return appendValueList(start, separator, end, Arrays.asList(values));
+    }
+
+    @Override
+    public <T> Description appendValueList(String start, String separator, String end, Iterable<T> values) {
+        nodes.add(new ValueList(start, separator, end, values));
+        return this;
+    }
+
+    @Override
+    public Description appendList(String start, String separator, String end,
+                                  Iterable<? extends SelfDescribing> values) {
+        nodes.add(new DescriptionList(start, separator, end, values));
+        return this;
+    }
+
+    /**
+     * Appends the recorded tree to <var>description</var>, as it was appended here.
+     */
+    @Override
+    public void describeTo(Description description) {
+        for (Node node : nodes) {
+            node.describeTo(description);
+        }
+    }
+
+    /**
+     * Renders the tree as text, as {@link StringDescription} would.
+     */
+    @Override
+    public String toString() {
+        final StringDescription text = new StringDescription();
+        describeTo(text);
+        return text.toString();
+    }
+
+    /**
+     * Renders the tree as text, as {@link BoundedDescription} would within <var>limits</var>.
+     */
+    public String toString(BoundedDescription.Limits limits) {
+        final BoundedDescription text = new BoundedDescription(limits);
+        describeTo(text);
+        return text.toString();
+    }
+
+    /**
+     * Renders the tree as a JSON array of its parts, in which plain text is a string,
+     * a value is <code>{"value": v}</code>, the description of a {@link SelfDescribing} is
+     * <code>{"description": [parts]}</code> and a list is
+     * <code>{"start": s, "separator": s, "end": s, "items": [parts]}</code>.
+     * Numbers, booleans, nulls, strings and arrays are given as JSON values, and other
+     * values as the string of <code>toString()</code>.
+     */
+    public String toJson() {
+        final StringBuilder json = new StringBuilder();
+        appendJsonTo(json);
+        return json.toString();
+    }
+
+    private void appendJsonTo(StringBuilder json) {
+        json.append('[');
+        for (int i = 0; i < nodes.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            nodes.get(i).appendJsonTo(json);
+        }
+        json.append(']');
+    }
+
+    private static StructuredDescription structureOf(SelfDescribing value) {
+        final StructuredDescription structure = new StructuredDescription();
+        value.describeTo(structure);
+        return structure;
+    }
+
+    private static abstract class Node implements SelfDescribing {
+        abstract void appendJsonTo(StringBuilder json);
+    }
+
+    private static final class Text extends Node {
+        private final String text;
+
+        Text(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendText(text);
+        }
+
+        @Override
+        void appendJsonTo(StringBuilder json) {
+            appendJsonString(String.valueOf(text), json);
+        }
+    }
+
+    private static final class Value extends Node {
+        private final Object value;
+
+        Value(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendValue(value);
+        }
+
+        @Override
+        void appendJsonTo(StringBuilder json) {
+            json.append("{\"value\":");
+            appendJsonValue(value, json);
+            json.append('}');
+        }
+    }
+
+    private static final class Nested extends Node {
+        private final StructuredDescription structure;
+
+        Nested(StructuredDescription structure) {
+            this.structure = structure;
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendDescriptionOf(structure);
+        }
+
+        @Override
+        void appendJsonTo(StringBuilder json) {
+            json.append("{\"description\":");
+            structure.appendJsonTo(json);
+            json.append('}');
+        }
+    }
+
+    private static abstract class ListNode extends Node {
+        final String start;
+        final String separator;
+        final String end;
+
+        ListNode(String start, String separator, String end) {
+            this.start = start;
+            this.separator = separator;
+            this.end = end;
+        }
+
+        @Override
+        void appendJsonTo(StringBuilder json) {
+            json.append("{\"start\":");
+            appendJsonString(start, json);
+            json.append(",\"separator\":");
+            appendJsonString(separator, json);
+            json.append(",\"end\":");
+            appendJsonString(end, json);
+            json.append(",\"items\":[");
+            appendItemsJsonTo(json);
+            json.append("]}");
+        }
+
+        abstract void appendItemsJsonTo(StringBuilder json);
+    }
+
+    private static final class ValueList extends ListNode {
+        private final Iterable<?> values;
+
+        ValueList(String start, String separator, String end, Iterable<?> values) {
+            super(start, separator, end);
+            this.values = values;
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendValueList(start, separator, end, values);
+        }
+
+        @Override
+        void appendItemsJsonTo(StringBuilder json) {
+            for (Iterator<?> i = values.iterator(); i.hasNext(); ) {
+                new Value(i.next()).appendJsonTo(json);
+                if (i.hasNext()) {
+                    json.append(',');
+                }
+            }
+        }
+    }
+
+    private static final class DescriptionList extends ListNode {
+        private final Iterable<? extends SelfDescribing> items;
+
+        DescriptionList(String start, String separator, String end, Iterable<? extends SelfDescribing> items) {
+            super(start, separator, end);
+            this.items = items;
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendList(start, separator, end, items);
+        }
+
+        @Override
+        void appendItemsJsonTo(StringBuilder json) {
+            for (Iterator<? extends SelfDescribing> i = items.iterator(); i.hasNext(); ) {
+                new Nested(structureOf(i.next())).appendJsonTo(json);
+                if (i.hasNext()) {
+                    json.append(',');
+                }
+            }
+        }
+    }
+
+    private static void appendJsonValue(Object value, StringBuilder json) {
+        if (value == null) {
+            json.append("null");
+        } else if (value instanceof Boolean || value instanceof Integer || value instanceof Long
+                   || value instanceof Short || value instanceof Byte
+                   || value instanceof BigInteger || value instanceof BigDecimal) {
+            json.append(value);
+        } else if (value instanceof Double || value instanceof Float) {
+            final double number = ((Number) value).doubleValue();
+            if (Double.isNaN(number) || Double.isInfinite(number)) {
+                appendJsonString(value.toString(), json);
+            } else {
+                json.append(value);
+            }
+        } else if (value.getClass().isArray()) {
+            json.append('[');
+            for (int i = 0; i < Array.getLength(value); i++) {
+                if (i > 0) {
+                    json.append(',');
+                }
+                appendJsonValue(Array.get(value, i), json);
+            }
+            json.append(']');
+        } else {
+            appendJsonString(stringOf(value), json);
+        }
+    }
+
+    private static String stringOf(Object value) {
+        try {
+            return String.valueOf(value);
+        }
+        catch (Exception e) {
+            return value.getClass().getName() + "@" + Integer.toHexString(value.hashCode());
+        }
+    }
+
+    private static void appendJsonString(String text, StringBuilder json) {
+        json.append('"');
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (c >= ' ' && c != '"' && c != '\\') {
+                continue;
+            }
+            json.append(text, start, i);
+            switch (c) {
+                case '"':
+                    json.append("\\\"");
+                    break;
+                case '\\':
+                    json.append("\\\\");
+                    break;
+                case '\n':
+                    json.append("\\n");
+                    break;
+                case '\r':
+                    json.append("\\r");
+                    break;
+                case '\t':
+                    json.append("\\t");
+                    break;
+                default:
+                    json.append(String.format("\\u%04x", (int) c));
+            }
+            start = i + 1;
+        }
+        json.append(text, start, text.length());
+        json.append('"');
+    }
+}
@@ -0,0 +1,319 @@
+package org.hamcrest;
+
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.hamcrest.internal.Descriptions;
+import org.hamcrest.internal.ClassCache;
+
+/**
+ * The {@link ValueFormatter}s that descriptions use to describe values of each class.
+ * A value is described by the formatter registered for its class, or else for its
+ * nearest superclass, or else for the first of the interfaces that they implement, or
+ * else for <code>Object</code>.
+ * Strings, boxed primitives and nulls are always described as they were, without
+ * looking for a formatter.
+ * <p/>
+ * The formatters built in describe primitive arrays without boxing their elements,
+ * <code>byte[]</code>s and the remaining bytes of {@link ByteBuffer}s as hex, showing
+ * at most {@value #MAX_HEX_BYTES} bytes, other {@link CharSequence}s without copying
+ * them whole, and {@link Collection}s that have the usual <code>toString()</code> item
+ * by item, so that describing a large value need not build a large string.
+ */
+public final class ValueFormatters {
+    /**
+     * The most bytes that are shown of a <code>byte[]</code> or {@link ByteBuffer}.
+     */
+    public static final int MAX_HEX_BYTES = 1024;
+
+    private static final int CHUNK_SIZE = 1024;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final ValueFormatter<Object> NO_FORMATTER = new ValueFormatter<Object>() {
+        @Override public void describeValue(Object value, Description description) { }
+    };
+
+    private static final ValueFormatter<Object> PRIMITIVE_ARRAY = new ValueFormatter<Object>() {
+        @Override public void describeValue(Object array, Description description) {
+            description.appendList("[", ", ", "]", new PrimitiveElements(array));
+        }
+    };
+
+    private static final ValueFormatter<byte[]> BYTE_ARRAY = new ValueFormatter<byte[]>() {
+        @Override public void describeValue(byte[] bytes, Description description) {
+            describeHex(ByteBuffer.wrap(bytes), description);
+        }
+    };
+
+    private static final ValueFormatter<ByteBuffer> BYTE_BUFFER = new ValueFormatter<ByteBuffer>() {
+        @Override public void describeValue(ByteBuffer buffer, Description description) {
+            describeHex(buffer, description);
+        }
+    };
+
+    private static final ValueFormatter<CharSequence> CHAR_SEQUENCE = new ValueFormatter<CharSequence>() {
+        @Override public void describeValue(CharSequence chars, Description description) {
+            description.appendText("<");
+            for (int start = 0; start < chars.length() && Descriptions.isEnabled(description); start += CHUNK_SIZE) {
+                description.appendText(chars.subSequence(start, Math.min(start + CHUNK_SIZE, chars.length())).toString());
+            }
+            description.appendText(">");
+        }
+    };
+
+    private static final ValueFormatter<Collection<?>> COLLECTION = new ValueFormatter<Collection<?>>() {
+        @Override public void describeValue(Collection<?> collection, Description description) {
+            description.appendText("<").appendList("[", ", ", "]", new CollectionItems(collection)).appendText(">");
+        }
+    };
+
+    private static volatile Map<Class<?>, ValueFormatter<?>> registry = builtIns();
+
+    private static final ClassCache<Resolution> RESOLUTIONS = new ClassCache<Resolution>() {
+        @Override
+        protected Resolution computeValue(Class<?> type) {
+            final Map<Class<?>, ValueFormatter<?>> formatters = registry;
+            return new Resolution(formatters, resolve(formatters, type));
+        }
+    };
+
+    private ValueFormatters() { }
+
+    /**
+     * Describes values of <var>type</var>, and of its subtypes that have no formatter
+     * of their own, with <var>formatter</var>, in place of any formatter registered
+     * for <var>type</var> before, including one built in.
+     */
+    public static synchronized <T> void register(Class<T> type, ValueFormatter<? super T> formatter) {
+        if (type == null || formatter == null) {
+            throw new IllegalArgumentException("Type and formatter must not be null");
+        }
+        final Map<Class<?>, ValueFormatter<?>> formatters = new HashMap<Class<?>, ValueFormatter<?>>(registry);
+        formatters.put(type, formatter);
+        registry = formatters;
+        RESOLUTIONS.clear();
+    }
+
+    /**
+     * Stops using the formatter registered for <var>type</var>, if any.
+     */
+    public static synchronized void unregister(Class<?> type) {
+        final Map<Class<?>, ValueFormatter<?>> formatters = new HashMap<Class<?>, ValueFormatter<?>>(registry);
+        formatters.remove(type);
+        registry = formatters;
+        RESOLUTIONS.clear();
+    }
+
+    /**
+     * @return the formatter for values of <var>type</var>, or null if they are described
+     *     with <code>toString()</code>
+     */
+    static ValueFormatter<Object> formatterFor(Class<?> type) {
+        Resolution resolution = RESOLUTIONS.get(type);
+        if (resolution.formatters != registry) {
+            RESOLUTIONS.remove(type);
+            resolution = RESOLUTIONS.get(type);
+        }
+        return (resolution.formatter == NO_FORMATTER) ? null : resolution.formatter;
+    }
+
+    private static final class Resolution {
+        final Map<Class<?>, ValueFormatter<?>> formatters;
+        final ValueFormatter<Object> formatter;
+
+        Resolution(Map<Class<?>, ValueFormatter<?>> formatters, ValueFormatter<Object> formatter) {
+            this.formatters = formatters;
+            this.formatter = formatter;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ValueFormatter<Object> resolve(Map<Class<?>, ValueFormatter<?>> formatters, Class<?> type) {
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            if (formatters.containsKey(c)) {
+                return applicable((ValueFormatter<Object>) formatters.get(c), type);
+            }
+        }
+        final List<Class<?>> interfaces = new ArrayList<Class<?>>();
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            Collections.addAll(interfaces, c.getInterfaces());
+        }
+        for (int i = 0; i < interfaces.size(); i++) {
+            final Class<?> candidate = interfaces.get(i);
+            if (formatters.containsKey(candidate)) {
+                return applicable((ValueFormatter<Object>) formatters.get(candidate), type);
+            }
+            Collections.addAll(interfaces, candidate.getInterfaces());
+        }
+        if (formatters.containsKey(Object.class)) {
+            return (ValueFormatter<Object>) formatters.get(Object.class);
+        }
+        return NO_FORMATTER;
+    }
+
+    /**
+     * The collection formatter reproduces <code>AbstractCollection.toString()</code>, so
+     * it is not used for collections that describe themselves in some other way.
+     */
+    private static ValueFormatter<Object> applicable(ValueFormatter<Object> formatter, Class<?> type) {
+        if ((Object) formatter == COLLECTION) {
+            try {
+                if (type.getMethod("toString").getDeclaringClass() != AbstractCollection.class) {
+                    return NO_FORMATTER;
+                }
+            } catch (NoSuchMethodException e) {
+                return NO_FORMATTER;
+            }
+        }
+        return formatter;
+    }
+
+    private static Map<Class<?>, ValueFormatter<?>> builtIns() {
+        final Map<Class<?>, ValueFormatter<?>> formatters = new HashMap<Class<?>, ValueFormatter<?>>();
+        for (Class<?> type : new Class<?>[] {boolean[].class, char[].class, short[].class, int[].class,
+                                             long[].class, float[].class, double[].class}) {
+            formatters.put(type, PRIMITIVE_ARRAY);
+        }
+        formatters.put(byte[].class, BYTE_ARRAY);
+        formatters.put(ByteBuffer.class, BYTE_BUFFER);
+        formatters.put(CharSequence.class, CHAR_SEQUENCE);
+        formatters.put(Collection.class, COLLECTION);
+        return formatters;
+    }
+
+    /**
+     * Describes the bytes from the position of <var>buffer</var> to its limit, without moving its position.
+     */
+    private static void describeHex(ByteBuffer buffer, Description description) {
+        final int length = buffer.remaining();
+        final int shown = Math.min(length, MAX_HEX_BYTES);
+        final char[] hex = new char[2 * Math.min(shown, CHUNK_SIZE)];
+        description.appendText("<0x");
+        for (int start = 0; start < shown && Descriptions.isEnabled(description); start += CHUNK_SIZE) {
+            final int end = Math.min(start + CHUNK_SIZE, shown);
+            for (int i = start; i < end; i++) {
+                final int b = buffer.get(buffer.position() + i);
+                hex[2 * (i - start)] = HEX_DIGITS[(b >> 4) & 0xf];
+                hex[2 * (i - start) + 1] = HEX_DIGITS[b & 0xf];
+            }
+            description.appendText(new String(hex, 0, 2 * (end - start)));
+        }
+        if (shown < length) {
+            description.appendText("...(" + (length - shown) + " more)");
+        }
+        description.appendText(">");
+    }
+
+    /**
+     * The elements of a primitive array, each described as its boxed value would be,
+     * but read without boxing.
+     */
+    private static final class PrimitiveElements extends AbstractCollection<SelfDescribing> {
+        private final Object array;
+        private final int length;
+
+        PrimitiveElements(Object array) {
+            this.array = array;
+            this.length = Array.getLength(array);
+        }
+
+        @Override
+        public int size() {
+            return length;
+        }
+
+        @Override
+        public Iterator<SelfDescribing> iterator() {
+            return new Iterator<SelfDescribing>() {
+                private int index;
+
+                @Override public boolean hasNext() {
+                    return index < length;
+                }
+
+                @Override public SelfDescribing next() {
+                    return new PrimitiveElement(array, index++);
+                }
+
+                @Override public void remove() {
+                    throw new UnsupportedOperationException("cannot remove items from an array");
+                }
+            };
+        }
+    }
+
+    private static final class PrimitiveElement implements SelfDescribing {
+        private final Object array;
+        private final int index;
+
+        PrimitiveElement(Object array, int index) {
+            this.array = array;
+            this.index = index;
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            if (array instanceof int[]) {
+                description.appendText("<").appendText(String.valueOf(((int[]) array)[index])).appendText(">");
+            } else if (array instanceof long[]) {
+                description.appendText("<").appendText(String.valueOf(((long[]) array)[index])).appendText("L>");
+            } else if (array instanceof double[]) {
+                description.appendText("<").appendText(String.valueOf(((double[]) array)[index])).appendText(">");
+            } else if (array instanceof float[]) {
+                description.appendText("<").appendText(String.valueOf(((float[]) array)[index])).appendText("F>");
+            } else if (array instanceof short[]) {
+                description.appendText("<").appendText(String.valueOf(((short[]) array)[index])).appendText("s>");
+            } else if (array instanceof boolean[]) {
+                description.appendText(((boolean[]) array)[index] ? "<true>" : "<false>");
+            } else {
+                description.appendValue(((char[]) array)[index]);
+            }
+        }
+    }
+
+    /**
+     * The items of a collection, each described as <code>AbstractCollection.toString()</code> would.
+     */
+    private static final class CollectionItems extends AbstractCollection<SelfDescribing> {
+        private final Collection<?> collection;
+
+        CollectionItems(Collection<?> collection) {
+            this.collection = collection;
+        }
+
+        @Override
+        public int size() {
+            return collection.size();
+        }
+
+        @Override
+        public Iterator<SelfDescribing> iterator() {
+            final Iterator<?> items = collection.iterator();
+            return new Iterator<SelfDescribing>() {
+                @Override public boolean hasNext() {
+                    return items.hasNext();
+                }
+
+                @Override public SelfDescribing next() {
+                    final Object item = items.next();
+                    return new SelfDescribing() {
+                        @Override public void describeTo(Description description) {
+                            description.appendText(item == collection ? "(this Collection)" : String.valueOf(item));
+                        }
+                    };
+                }
+
+                @Override public void remove() {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package org.hamcrest.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.internal.EqualityIndex;
+
+/**
+ * Rewrites trees of core matchers into cheaper equivalents. The rewritten tree is only used to
+ * decide whether an item matches; descriptions and mismatch descriptions still come from the
+ * original matcher, so they read exactly as before.
+ * <p/>
+ * The rewrites are:
+ * <ul>
+ *   <li>{@link Is}, {@link DescribedAs} and double {@link IsNot} wrappers are removed</li>
+ *   <li>nested {@link AllOf}s and {@link AnyOf}s, including those built by
+ *       {@link CombinableMatcher}, are flattened</li>
+ *   <li>{@link IsAnything} is folded into the matchers that combine it</li>
+ *   <li>runs of two or more {@link IsEqual}s under an {@link AnyOf} become a single hash lookup</li>
+ * </ul>
+ * Only instances of the core classes themselves are rewritten, never subclasses, and other
+ * matchers are left as they are. Like the hash lookups elsewhere in Hamcrest, the rewritten
+ * equality checks rely on the examined items honouring the <code>equals</code>/<code>hashCode</code>
+ * contract.
+ */
+public final class MatcherOptimizer {
+    private static final Matcher<Object> ALWAYS = new IsAnything<Object>();
+    private static final Matcher<Object> NEVER = new Not(ALWAYS);
+
+    private MatcherOptimizer() {
+    }
+
+    /**
+     * @return a matcher that matches the same items as <var>matcher</var>, and describes itself
+     *         and its mismatches in the same way, but evaluates a simplified tree. This is
+     *         <var>matcher</var> itself if there is nothing to simplify.
+     */
+    public static <T> Matcher<T> optimize(Matcher<T> matcher) {
+        final Matcher<?> rewritten = rewrite(matcher);
+        return rewritten == matcher ? matcher : new Optimized<T>(matcher, rewritten);
+    }
+
+    private static Matcher<?> rewrite(Matcher<?> matcher) {
+        final Class<?> type = matcher.getClass();
+        if (type == Is.class) {
+            return rewrite(((Is<?>) matcher).matcher());
+        }
+        if (type == DescribedAs.class) {
+            return rewrite(((DescribedAs<?>) matcher).matcher());
+        }
+        if (type == IsNot.class) {
+            return negate(rewrite(((IsNot<?>) matcher).matcher()));
+        }
+        if (type == IsAnything.class) {
+            return ALWAYS;
+        }
+        if (type == CombinableMatcher.class) {
+            final List<Matcher<?>> conjuncts = new ArrayList<Matcher<?>>();
+            conjuncts.add(NotNull.INSTANCE);
+            conjuncts.add(((CombinableMatcher<?>) matcher).matcher());
+            return all(conjuncts);
+        }
+        if (type == AllOf.class) {
+            return all(((AllOf<?>) matcher).matchers());
+        }
+        if (type == AnyOf.class) {
+            return any(((AnyOf<?>) matcher).matchers());
+        }
+        if (type == Optimized.class) {
+            return ((Optimized<?>) matcher).rewritten;
+        }
+        return matcher;
+    }
+
+    private static Matcher<?> negate(Matcher<?> matcher) {
+        if (matcher == ALWAYS) {
+            return NEVER;
+        }
+        if (matcher instanceof Not) {
+            return ((Not) matcher).matcher;
+        }
+        return new Not(matcher);
+    }
+
+    private static Matcher<?> all(Iterable<? extends Matcher<?>> matchers) {
+        final List<Matcher<?>> conjuncts = new ArrayList<Matcher<?>>();
+        for (Matcher<?> matcher : matchers) {
+            final Matcher<?> rewritten = rewrite(matcher);
+            if (rewritten == NEVER) {
+                return NEVER;
+            }
+            if (rewritten instanceof All) {
+                addAll(conjuncts, ((All) rewritten).matchers);
+            } else if (rewritten != ALWAYS) {
+                conjuncts.add(rewritten);
+            }
+        }
+        if (conjuncts.isEmpty()) {
+            return ALWAYS;
+        }
+        return conjuncts.size() == 1 ? conjuncts.get(0) : new All(conjuncts);
+    }
+
+    private static Matcher<?> any(Iterable<? extends Matcher<?>> matchers) {
+        final List<Matcher<?>> disjuncts = new ArrayList<Matcher<?>>();
+        for (Matcher<?> matcher : matchers) {
+            final Matcher<?> rewritten = rewrite(matcher);
+            if (rewritten == ALWAYS) {
+                return ALWAYS;
+            }
+            if (rewritten instanceof Any) {
+                addAll(disjuncts, ((Any) rewritten).matchers);
+            } else if (rewritten != NEVER) {
+                disjuncts.add(rewritten);
+            }
+        }
+        final List<Matcher<?>> indexed = indexEqualityRuns(disjuncts);
+        if (indexed.isEmpty()) {
+            return NEVER;
+        }
+        return indexed.size() == 1 ? indexed.get(0) : new Any(indexed);
+    }
+
+    private static List<Matcher<?>> indexEqualityRuns(List<Matcher<?>> disjuncts) {
+        final List<Matcher<?>> result = new ArrayList<Matcher<?>>(disjuncts.size());
+        int runStart = 0;
+        while (runStart < disjuncts.size()) {
+            int runEnd = runStart;
+            while (runEnd < disjuncts.size() && EqualityIndex.isIndexable(disjuncts.get(runEnd))) {
+                runEnd++;
+            }
+            if (runEnd - runStart >= 2) {
+                result.add(new OneOfEqual(EqualityIndex.of(disjuncts.subList(runStart, runEnd))));
+            } else {
+                result.addAll(disjuncts.subList(runStart, runEnd));
+            }
+            if (runEnd < disjuncts.size()) {
+                result.add(disjuncts.get(runEnd));
+            }
+            runStart = runEnd + 1;
+        }
+        return result;
+    }
+
+    private static void addAll(List<Matcher<?>> list, Matcher<?>[] matchers) {
+        for (Matcher<?> matcher : matchers) {
+            list.add(matcher);
+        }
+    }
+
+    private static final class Optimized<T> extends BaseMatcher<T> {
+        private final Matcher<T> original;
+        private final Matcher<?> rewritten;
+
+        Optimized(Matcher<T> original, Matcher<?> rewritten) {
+            this.original = original;
+            this.rewritten = rewritten;
+        }
+
+        @Override
+        public boolean matches(Object item) {
+            return rewritten.matches(item);
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            original.describeTo(description);
+        }
+
+        @Override
+        public void describeMismatch(Object item, Description mismatchDescription) {
+            original.describeMismatch(item, mismatchDescription);
+        }
+    }
+
+    /**
+     * The nodes of rewritten trees. They only ever match, so they describe themselves simply.
+     */
+    private abstract static class Node extends BaseMatcher<Object> {
+        @Override
+        public void describeTo(Description description) {
+            description.appendText(getClass().getSimpleName());
+        }
+    }
+
+    private static final class All extends Node {
+        final Matcher<?>[] matchers;
+
+        All(List<Matcher<?>> matchers) {
+            this.matchers = matchers.toArray(new Matcher<?>[matchers.size()]);
+        }
+
+        @Override
+        public boolean matches(Object item) {
+            for (Matcher<?> matcher : matchers) {
+                if (!matcher.matches(item)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class Any extends Node {
+        final Matcher<?>[] matchers;
+
+        Any(List<Matcher<?>> matchers) {
+            this.matchers = matchers.toArray(new Matcher<?>[matchers.size()]);
+        }
+
+        @Override
+        public boolean matches(Object item) {
+            for (Matcher<?> matcher : matchers) {
+                if (matcher.matches(item)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class Not extends Node {
+        final Matcher<?> matcher;
+
+        Not(Matcher<?> matcher) {
+            this.matcher = matcher;
+        }
+
+        @Override
+        public boolean matches(Object item) {
+            return !matcher.matches(item);
+        }
+    }
+
+    private static final class NotNull extends Node {
+        static final NotNull INSTANCE = new NotNull();
+
+        @Override
+        public boolean matches(Object item) {
+            return item != null;
+        }
+    }
+
+    private static final class OneOfEqual extends Node {
+        private final EqualityIndex index;
+
+        OneOfEqual(EqualityIndex index) {
+            this.index = index;
+        }
+
+        @Override
+        public boolean matches(Object item) {
+            return index.slotOf(item) >= 0;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package org.hamcrest.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.core.IsEqual;
+
+/**
+ * A hash index over a list of {@link IsEqual} matchers, for matchers that would otherwise
+ * try every one of them against every examined item. Matchers with equal expected values
+ * share a slot, which lists their positions in ascending order.
+ * <p/>
+ * Looking an item up by hash gives the same answer as {@link IsEqual#matches(Object)} as
+ * long as the examined items honour the <code>equals</code>/<code>hashCode</code> contract.
+ * Arrays, which <code>IsEqual</code> compares by content, cannot be hashed that way, so
+ * lists that expect an array value are not indexed.
+ */
+public final class EqualityIndex {
+    private static final int NO_SLOT = -1;
+
+    private final Map<Object, Integer> slots;
+    private final int[][] positions;
+
+    private EqualityIndex(Map<Object, Integer> slots, int[][] positions) {
+        this.slots = slots;
+        this.positions = positions;
+    }
+
+    /**
+     * @param matchers the matchers to index, in order
+     * @return the index, or null if any of the matchers is not a plain {@link IsEqual}
+     *         with a non-array expected value
+     */
+    public static EqualityIndex of(Iterable<? extends Matcher<?>> matchers) {
+        final Map<Object, Integer> slots = new HashMap<Object, Integer>();
+        final List<List<Integer>> slotPositions = new ArrayList<List<Integer>>();
+        int position = 0;
+        for (Matcher<?> matcher : matchers) {
+            if (!isIndexable(matcher)) {
+                return null;
+            }
+            final Object value = ((IsEqual<?>) matcher).expectedValue();
+            Integer slot = slots.get(value);
+            if (slot == null) {
+                slot = slotPositions.size();
+                slots.put(value, slot);
+                slotPositions.add(new ArrayList<Integer>(1));
+            }
+            slotPositions.get(slot).add(position++);
+        }
+        return new EqualityIndex(slots, toArrays(slotPositions));
+    }
+
+    /**
+     * @return true if <var>matcher</var> can be answered by a hash lookup
+     */
+    public static boolean isIndexable(Matcher<?> matcher) {
+        if (matcher == null || matcher.getClass() != IsEqual.class) {
+            return false;
+        }
+        final Object value = ((IsEqual<?>) matcher).expectedValue();
+        return value == null || !value.getClass().isArray();
+    }
+
+    /**
+     * @return the number of distinct expected values
+     */
+    public int slotCount() {
+        return positions.length;
+    }
+
+    /**
+     * @return the slot of the matchers that <var>item</var> is equal to, or -1 if none
+     */
+    public int slotOf(Object item) {
+        final Integer slot = slots.get(item);
+        return slot == null ? NO_SLOT : slot;
+    }
+
+    /**
+     * @return the positions of the matchers in <var>slot</var>, in ascending order
+     */
+    public int[] positionsIn(int slot) {
+        return positions[slot];
+    }
+
+    private static int[][] toArrays(List<List<Integer>> slotPositions) {
+        final int[][] result = new int[slotPositions.size()][];
+        for (int slot = 0; slot < result.length; slot++) {
+            final List<Integer> inSlot = slotPositions.get(slot);
+            result[slot] = new int[inSlot.size()];
+            for (int i = 0; i < inSlot.size(); i++) {
+                result[slot][i] = inSlot.get(i);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,267 @@
+package org.hamcrest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+
+import org.junit.Test;
+
+public final class MatcherAssertTest {
+
+    @Test public void
+    includesDescriptionOfTestedValueInErrorMessage() {
+        String expected = "expected";
+        String actual = "actual";
+
+        String expectedMessage = "identifier\nExpected: \"expected\"\n     but: was \"actual\"";
+
+        try {
+            assertThat("identifier", actual, equalTo(expected));
+        }
+        catch (AssertionError e) {
+            assertTrue(e.getMessage().startsWith(expectedMessage));
+            return;
+        }
+
+        fail("should have failed");
+    }
+
+    @Test public void
+    descriptionCanBeElided() {
+        String expected = "expected";
+        String actual = "actual";
+
+        String expectedMessage = "\nExpected: \"expected\"\n     but: was \"actual\"";
+
+        try {
+            assertThat(actual, equalTo(expected));
+        }
+        catch (AssertionError e) {
+            assertTrue(e.getMessage().startsWith(expectedMessage));
+            return;
+        }
+
+        fail("should have failed");
+    }
+
+    @Test public void
+    canTestBooleanDirectly() {
+        assertThat("success reason message", true);
+
+        try {
+            assertThat("failing reason message", false);
+        }
+        catch (AssertionError e) {
+            assertEquals("failing reason message", e.getMessage());
+            return;
+        }
+
+        fail("should have failed");
+    }
+
+    @Test public void
+    includesMismatchDescription() {
+        Matcher<String> matcherWithCustomMismatchDescription = new BaseMatcher<String>() {
+            @Override
+            public boolean matches(Object item) {
+                return false;
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendText("Something cool");
+            }
+
+            @Override
+            public void describeMismatch(Object item, Description mismatchDescription) {
+                mismatchDescription.appendText("Not cool");
+            }
+        };
+
+        String expectedMessage = "\nExpected: Something cool\n     but: Not cool";
+
+        try {
+            assertThat("Value", matcherWithCustomMismatchDescription);
+            fail("should have failed");
+        }
+        catch (AssertionError e) {
+            assertEquals(expectedMessage, e.getMessage());
+        }
+    }
+
+    @Test public void
+    evaluatesTheMatcherOnceWhenItFails() {
+        final int[] evaluations = {0};
+        Matcher<String> countsEvaluations = new TypeSafeDiagnosingMatcher<String>() {
+            @Override
+            protected boolean matchesSafely(String item, Description mismatchDescription) {
+                evaluations[0]++;
+                mismatchDescription.appendText("evaluated ").appendValue(item);
+                return false;
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendText("counted");
+            }
+        };
+
+        try {
+            assertThat("value", countsEvaluations);
+            fail("should have failed");
+        }
+        catch (AssertionError e) {
+            assertEquals("\nExpected: counted\n     but: evaluated \"value\"", e.getMessage());
+        }
+        assertEquals(1, evaluations[0]);
+    }
+
+    @Test public void
+    describesMismatchesOfMatchersThatDoNotExtendBaseMatcher() {
+        @SuppressWarnings("deprecation")
+        Matcher<String> implementsMatcher = new Matcher<String>() {
+            @Override public boolean matches(Object item) { return false; }
+            @Override public void describeMismatch(Object item, Description mismatchDescription) {
+                mismatchDescription.appendText("was not cool");
+            }
+            @Override public void describeTo(Description description) { description.appendText("cool"); }
+            @Override @Deprecated public void _dont_implement_Matcher___instead_extend_BaseMatcher_() { }
+        };
+
+        try {
+            assertThat("value", implementsMatcher);
+            fail("should have failed");
+        }
+        catch (AssertionError e) {
+            assertEquals("\nExpected: cool\n     but: was not cool", e.getMessage());
+        }
+    }
+
+    @Test public void
+    canThrowStacklessErrorsThatDescribeTheFailureOnlyWhenAsked() {
+        final int[] descriptions = {0};
+        Matcher<String> countsDescriptions = new BaseMatcher<String>() {
+            @Override
+            public boolean matches(Object item) {
+                return false;
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                descriptions[0]++;
+                description.appendText("counted");
+            }
+        };
+
+        try {
+            MatcherAssert.stackless().assertThat("identifier", "value", countsDescriptions);
+            fail("should have failed");
+        }
+        catch (StacklessAssertionError e) {
+            assertEquals(0, descriptions[0]);
+            assertEquals(0, e.getStackTrace().length);
+            assertEquals("identifier\nExpected: counted\n     but: was \"value\"", e.getMessage());
+            assertEquals(e.getMessage(), e.getMessage());
+            assertEquals(1, descriptions[0]);
+        }
+    }
+
+    @Test public void
+    canThrowStacklessErrorsForBooleanAssertions() {
+        try {
+            MatcherAssert.stackless().assertThat("failing reason message", false);
+            fail("should have failed");
+        }
+        catch (StacklessAssertionError e) {
+            assertEquals("failing reason message", e.getMessage());
+            assertEquals(0, e.getStackTrace().length);
+        }
+    }
+
+    @Test public void
+    throwsErrorsWithStackTracesByDefault() {
+        try {
+            MatcherAssert.stackless().assertThat("value", equalTo("other"));
+            fail("should have failed");
+        }
+        catch (StacklessAssertionError expected) {
+        }
+        try {
+            assertThat("value", equalTo("other"));
+            fail("should have failed");
+        }
+        catch (AssertionError e) {
+            assertFalse(e instanceof StacklessAssertionError);
+            assertTrue(e.getStackTrace().length > 0);
+        }
+    }
+
+    @Test public void
+    canAssertSubtypes() {
+        Integer aSub = new Integer(1);
+        Number aSuper = aSub;
+
+        assertThat(aSub, equalTo(aSuper));
+    }
+
+    @Test public void
+    limitsTheSizeOfTheMessage() {
+        final BoundedDescription.Limits limits = MatcherAssert.messageLimits();
+        MatcherAssert.setMessageLimits(new BoundedDescription.Limits(1000, 2, 10));
+        try {
+            assertThat(new int[] {1, 2, 3}, equalTo(new int[] {1, 2, 4}));
+            fail("should have failed");
+        } catch (AssertionError e) {
+            assertEquals("\nExpected: [<1>, <2>, ...(1 more)]\n     but: was [<1>, <2>, ...(1 more)]", e.getMessage());
+        } finally {
+            MatcherAssert.setMessageLimits(limits);
+        }
+    }
+
+    @Test public void
+    sendsTheWholeFailureToTheFailureSink() {
+        final StringWriter out = new StringWriter();
+        final BoundedDescription.Limits limits = MatcherAssert.messageLimits();
+        MatcherAssert.setMessageLimits(new BoundedDescription.Limits(1000, 2, 10));
+        MatcherAssert.setFailureSink(new StreamingDescription(out));
+        try {
+            assertThat(new int[] {1, 2, 3}, equalTo(new int[] {1, 2, 4}));
+            fail("should have failed");
+        } catch (AssertionError e) {
+            assertEquals("\nExpected: [<1>, <2>, ...(1 more)]\n     but: was [<1>, <2>, ...(1 more)]", e.getMessage());
+        } finally {
+            MatcherAssert.setFailureSink(null);
+            MatcherAssert.setMessageLimits(limits);
+        }
+        assertEquals("\nExpected: [<1>, <2>, <4>]\n     but: was [<1>, <2>, <3>]\n", out.toString());
+    }
+
+    @Test public void
+    throwsTheAssertionErrorWhenTheFailureSinkCannotBeWritten() {
+        MatcherAssert.setFailureSink(new StreamingDescription(new Writer() {
+            @Override public void write(char[] chars, int offset, int length) throws IOException {
+                throw new IOException("closed");
+            }
+
+            @Override public void flush() { }
+
+            @Override public void close() { }
+        }));
+        try {
+            assertThat("value", equalTo("other"));
+            fail("should have failed");
+        } catch (AssertionError e) {
+            assertEquals("\nExpected: \"other\"\n     but: was \"value\"", e.getMessage());
+            assertEquals("Could not write description", e.getCause().getMessage());
+        } finally {
+            MatcherAssert.setFailureSink(null);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package org.hamcrest;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.Charset;
+
+import org.junit.Test;
+
+public final class StreamingDescriptionTest {
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final String longText = longText();
+
+    @Test public void
+    writesToAWriterAsAStringDescriptionWould() {
+        final StringWriter out = new StringWriter();
+        final StreamingDescription description = new StreamingDescription(out);
+        description.appendText("text ").appendValue(longText).appendValueList("[", ", ", "]", 1, 2);
+        description.flush();
+
+        assertEquals(new StringDescription().appendText("text ").appendValue(longText)
+                                            .appendValueList("[", ", ", "]", 1, 2).toString(),
+                     out.toString());
+    }
+
+    @Test public void
+    writesTextAsTheBufferFills() {
+        final StringWriter out = new StringWriter();
+        new StreamingDescription(out).appendText(longText);
+
+        assertEquals(longText.substring(0, out.toString().length()), out.toString());
+        assertEquals(true, out.toString().length() > 0);
+    }
+
+    @Test public void
+    encodesTextToAStreamInTheGivenCharset() {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final StreamingDescription description = new StreamingDescription(out, UTF_8);
+        description.appendText(longText);
+        description.flush();
+
+        assertEquals(longText, new String(out.toByteArray(), UTF_8));
+    }
+
+    @Test public void
+    flushesTheStreamItWritesTo() {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final StreamingDescription description = new StreamingDescription(new BufferedOutputStream(out), UTF_8);
+        description.appendText("short");
+        description.flush();
+
+        assertEquals("short", new String(out.toByteArray(), UTF_8));
+    }
+
+    @Test public void
+    canBeUsedAgainAfterFlushing() {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final StreamingDescription description = new StreamingDescription(out, UTF_8);
+        description.appendText("first\n");
+        description.flush();
+        description.appendText("second\n");
+        description.flush();
+
+        assertEquals("first\nsecond\n", new String(out.toByteArray(), UTF_8));
+    }
+
+    /**
+     * Long enough to fill the buffer more than once, with surrogate pairs placed so
+     * that one is split by the end of the buffer.
+     */
+    private static String longText() {
+        final StringBuilder text = new StringBuilder("x");
+        for (int i = 0; i < 10000; i++) {
+            text.append(i % 3 == 0 ? "\uD83D\uDE00" : "a\u00e9\t\"");
+        }
+        return text.toString();
+    }
+}
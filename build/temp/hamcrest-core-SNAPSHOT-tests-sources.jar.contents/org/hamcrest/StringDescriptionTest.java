@@ -0,0 +1,42 @@
+package org.hamcrest;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+
+import org.junit.Test;
+
+public final class StringDescriptionTest {
+
+    @Test public void
+    writesToAStringBuilder() {
+        final StringBuilder out = new StringBuilder("already ");
+        new StringDescription(out).appendText("text ").appendValue("a\tb");
+        assertEquals("already text \"a\\tb\"", out.toString());
+    }
+
+    @Test public void
+    writesToAnyAppendable() {
+        final StringBuffer out = new StringBuffer();
+        final Description description = new StringDescription(out).appendText("text ").appendValue("a\tb");
+        assertEquals("text \"a\\tb\"", out.toString());
+        assertEquals("text \"a\\tb\"", description.toString());
+    }
+
+    @Test(expected = RuntimeException.class) public void
+    reportsAFailureToWrite() {
+        new StringDescription(new Appendable() {
+            @Override public Appendable append(CharSequence csq) throws IOException {
+                throw new IOException();
+            }
+
+            @Override public Appendable append(CharSequence csq, int start, int end) throws IOException {
+                throw new IOException();
+            }
+
+            @Override public Appendable append(char c) throws IOException {
+                throw new IOException();
+            }
+        }).appendValue("value");
+    }
+}
@@ -0,0 +1,84 @@
+package org.hamcrest;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.AllOf.allOf;
+import static org.hamcrest.core.IsCollectionContaining.hasItem;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Collections;
+
+import org.junit.Test;
+
+public final class StructuredDescriptionTest {
+
+    private final StructuredDescription description = new StructuredDescription();
+
+    @Test public void
+    rendersAsTextAsAStringDescriptionWould() {
+        final Matcher<Iterable<? super String>> matcher = hasItem(allOf(equalTo("a\tb"), equalTo("c")));
+        final Iterable<String> items = asList("a", null);
+        final StringDescription expected = new StringDescription();
+        expected.appendDescriptionOf(matcher).appendText(" ").appendValue(new int[] {1, 2})
+                .appendValueList("{", "; ", "}", 3L, 'c');
+        matcher.describeMismatch(items, expected);
+
+        description.appendDescriptionOf(matcher).appendText(" ").appendValue(new int[] {1, 2})
+                   .appendValueList("{", "; ", "}", 3L, 'c');
+        matcher.describeMismatch(items, description);
+
+        assertEquals(expected.toString(), description.toString());
+        assertEquals(expected.toString(), StringDescription.toString(description));
+    }
+
+    @Test public void
+    rendersAsBoundedText() {
+        description.appendText("values ").appendValueList("[", ", ", "]", 1, 2, 3);
+
+        assertEquals("values [<1>, <2>, ...(1 more)]", description.toString(new BoundedDescription.Limits(100, 2, 10)));
+    }
+
+    @Test public void
+    describesListItemsOnlyWhenRenderedAndOnlyThoseShown() {
+        final int[] described = {0};
+        final SelfDescribing item = new SelfDescribing() {
+            @Override public void describeTo(Description description) {
+                described[0]++;
+                description.appendText("x");
+            }
+        };
+        description.appendList("[", ", ", "]", Collections.nCopies(1000, item));
+        assertEquals(0, described[0]);
+
+        assertEquals("[x, x, ...(998 more)]", description.toString(new BoundedDescription.Limits(100, 2, 10)));
+        assertEquals(2, described[0]);
+    }
+
+    @Test public void
+    rendersAsJson() {
+        description.appendText("a \"quote\"\n").appendValue(new Object[] {1, 2.5, "x", null, true})
+                   .appendDescriptionOf(equalTo('c'))
+                   .appendList("(", " and ", ")", asList(equalTo(1L), equalTo(Double.NaN)));
+
+        assertEquals("[\"a \\\"quote\\\"\\n\",{\"value\":[1,2.5,\"x\",null,true]},"
+                     + "{\"description\":[{\"value\":\"c\"}]},"
+                     + "{\"start\":\"(\",\"separator\":\" and \",\"end\":\")\",\"items\":["
+                     + "{\"description\":[{\"value\":1}]},{\"description\":[{\"value\":\"NaN\"}]}]}]",
+                     description.toJson());
+    }
+
+    @Test public void
+    formatsValuesOnlyWhenRendered() {
+        final int[] formatted = {0};
+        description.appendValue(new Object() {
+            @Override public String toString() {
+                formatted[0]++;
+                return "value";
+            }
+        });
+        assertEquals(0, formatted[0]);
+
+        assertEquals("<value>", description.toString());
+        assertEquals(1, formatted[0]);
+    }
+}
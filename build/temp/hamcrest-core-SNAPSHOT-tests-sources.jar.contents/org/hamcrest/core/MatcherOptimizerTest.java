@@ -0,0 +1,129 @@
+package org.hamcrest.core;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.AbstractMatcherTest.assertDescription;
+import static org.hamcrest.AbstractMatcherTest.assertMismatchDescription;
+import static org.hamcrest.core.AllOf.allOf;
+import static org.hamcrest.core.AnyOf.anyOf;
+import static org.hamcrest.core.CombinableMatcher.both;
+import static org.hamcrest.core.CombinableMatcher.either;
+import static org.hamcrest.core.DescribedAs.describedAs;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsAnything.anything;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.MatcherOptimizer.optimize;
+import static org.hamcrest.core.StringContains.containsString;
+import static org.hamcrest.core.StringStartsWith.startsWith;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+public final class MatcherOptimizerTest {
+
+    private static final List<Object> ITEMS = asList(
+            null, "", "a", "b", "c", "ab", "abc", "bad", "z", "zz", 1, 2L, 'a', new Object(), new String[] {"a"});
+
+    @Test public void
+    leavesMatchersWithNothingToSimplifyAlone() {
+        final Matcher<String> matcher = startsWith("a");
+        assertSame(matcher, optimize(matcher));
+    }
+
+    @Test public void
+    removesIsAndDoubleNegation() {
+        assertEquivalentWhenOptimized(is(is(not(not(equalTo("a"))))));
+        assertEquivalentWhenOptimized(not(is(not(not(startsWith("a"))))));
+        assertEquivalentWhenOptimized(describedAs("an %0", not(not(equalTo("a"))), "a"));
+    }
+
+    @Test public void
+    flattensNestedCombinations() {
+        assertEquivalentWhenOptimized(allOf(startsWith("a"), allOf(containsString("b"), allOf(containsString("c")))));
+        assertEquivalentWhenOptimized(anyOf(startsWith("a"), anyOf(startsWith("b"), anyOf(startsWith("z")))));
+        assertEquivalentWhenOptimized(both(startsWith("a")).and(containsString("b")).and(containsString("c")));
+        assertEquivalentWhenOptimized(either(startsWith("z")).or(equalTo("a")).or(nullValue()));
+        assertEquivalentWhenOptimized(allOf(anyOf(startsWith("a"), startsWith("b")), not(anyOf(equalTo("b"), equalTo("ab")))));
+    }
+
+    @Test public void
+    foldsAnything() {
+        assertEquivalentWhenOptimized(allOf(anything(), startsWith("a"), anything()));
+        assertEquivalentWhenOptimized(anyOf(startsWith("a"), anything()));
+        assertEquivalentWhenOptimized(not(anything()));
+        assertEquivalentWhenOptimized(anyOf(not(anything()), equalTo("a")));
+        assertEquivalentWhenOptimized(allOf(not(anything()), equalTo("a")));
+        assertEquivalentWhenOptimized(both(anything()).and(anything()));
+    }
+
+    @Test public void
+    looksUpRunsOfEqualValuesByHash() {
+        final List<Matcher<? super Object>> matchers = new ArrayList<Matcher<? super Object>>();
+        for (char c = 'a'; c <= 'z'; c++) {
+            matchers.add(equalTo((Object) String.valueOf(c)));
+        }
+        matchers.add(equalTo(null));
+        matchers.add(equalTo((Object) 1));
+        assertEquivalentWhenOptimized(anyOf(matchers));
+        assertEquivalentWhenOptimized(anyOf(equalTo((Object) "a"), startsWith("b"), equalTo("c"), equalTo("z"), equalTo((Object) new String[] {"a"})));
+    }
+
+    @Test public void
+    describesMismatchesAsTheOriginalDoes() {
+        final Matcher<String> matcher = optimize(is(both(startsWith("a")).and(containsString("c"))));
+        assertMismatchDescription("a string containing \"c\" was \"ab\"", matcher, "ab");
+        assertMismatchDescription("was null", matcher, null);
+    }
+
+    @Test public void
+    optimizesAlreadyOptimizedMatchers() {
+        final Matcher<String> optimized = optimize(is(anyOf(equalTo("a"), equalTo("b"))));
+        final Matcher<String> matcher = optimize(not(optimized));
+        assertEquivalent(not(is(anyOf(equalTo("a"), equalTo("b")))), matcher);
+    }
+
+    @Test public void
+    doesNotRewriteSubclasses() {
+        final Matcher<String> alwaysMatches = new Is<String>(equalTo("a")) {
+            @Override public boolean matches(Object arg) {
+                return true;
+            }
+        };
+        assertSame(alwaysMatches, optimize(alwaysMatches));
+    }
+
+    @Test public void
+    evaluatesEachMatcherAtMostOnce() {
+        final List<Object> evaluated = new ArrayList<Object>();
+        final Matcher<Object> recordsItems = new BaseMatcher<Object>() {
+            @Override public boolean matches(Object item) {
+                evaluated.add(item);
+                return false;
+            }
+            @Override public void describeTo(Description description) { }
+        };
+        optimize(is(anyOf(equalTo("a"), equalTo("b"), recordsItems, not(not(recordsItems))))).matches("c");
+        assertEquals(asList("c", "c"), evaluated);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void assertEquivalentWhenOptimized(Matcher<?> original) {
+        assertEquivalent(original, optimize((Matcher<Object>) original));
+    }
+
+    private static void assertEquivalent(Matcher<?> original, Matcher<?> optimized) {
+        assertDescription(StringDescription.toString(original), optimized);
+        for (Object item : ITEMS) {
+            assertEquals("matches " + item, original.matches(item), optimized.matches(item));
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package org.hamcrest.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+public final class ReflectiveTypeFinderTest {
+    private final ReflectiveTypeFinder finder = new ReflectiveTypeFinder("typed", 1, 0);
+
+    public static class TypedWithString {
+        public void typed(String value) { }
+    }
+
+    public static class TypedWithInteger {
+        public void typed(Integer value) { }
+    }
+
+    public static class SubclassOfTypedWithString extends TypedWithString { }
+
+    @Test public void
+    findsTypeOfParameterInClassHierarchy() {
+        assertSame(String.class, finder.findExpectedType(TypedWithString.class));
+        assertSame(Integer.class, finder.findExpectedType(TypedWithInteger.class));
+        assertSame(String.class, finder.findExpectedType(SubclassOfTypedWithString.class));
+    }
+
+    @Test public void
+    reflectsOnlyOncePerClass() {
+        finder.findExpectedType(TypedWithString.class);
+        finder.findExpectedType(TypedWithString.class);
+        finder.findExpectedType(TypedWithInteger.class);
+        finder.findExpectedType(TypedWithString.class);
+
+        assertEquals(2, finder.cacheMissCount());
+        assertEquals(2, finder.cacheHitCount());
+    }
+
+    @Test public void
+    doesNotCacheClassesWithoutTheMethod() {
+        assertFailsToFindType(ReflectiveTypeFinderTest.class);
+        assertFailsToFindType(ReflectiveTypeFinderTest.class);
+
+        assertEquals(2, finder.cacheMissCount());
+        assertEquals(0, finder.cacheHitCount());
+    }
+
+    private void assertFailsToFindType(Class<?> type) {
+        try {
+            finder.findExpectedType(type);
+            fail("should have failed");
+        } catch (Error expected) {
+            assertEquals("Cannot determine correct type for typed() method.", expected.getMessage());
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*  Copyright (c) 2000-2006 hamcrest.org
+ */
+package org.hamcrest.beans;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hamcrest.internal.ClassCache;
+
+/**
+ * Utility class for accessing properties on JavaBean objects.
+ * <p/>
+ * The properties of each class are introspected once, for each stop class, and then
+ * cached. Call {@link #flushCache()} if classes may have been redefined, for example
+ * after a hot redeployment.
+ * <p/>
+ * See http://java.sun.com/products/javabeans/docs/index.html for
+ * more information on JavaBeans.
+ *
+ * @author Iain McGinniss
+ * @author Steve Freeman
+ * @since 1.1.0
+ */
+public class PropertyUtil {
+    private static final Object NO_STOP_CLASS = new Object();
+    private static final AtomicLong INTROSPECTIONS = new AtomicLong();
+
+    private static final ClassCache<ConcurrentMap<Object, BeanProperties>> PROPERTIES =
+        new ClassCache<ConcurrentMap<Object, BeanProperties>>() {
+            @Override
+            protected ConcurrentMap<Object, BeanProperties> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<Object, BeanProperties>(2);
+            }
+        };
+
+    /**
+     * Returns the description of the property with the provided
+     * name on the provided object's interface.
+     *
+     * @return the descriptor of the property, or null if the property does not exist.
+     * @throws IllegalArgumentException if there's a introspection failure
+     */
+    public static PropertyDescriptor getPropertyDescriptor(String propertyName, Object fromObj) throws IllegalArgumentException {
+        return propertiesOf(fromObj.getClass(), null).named(propertyName);
+    }
+
+    /**
+     * Returns all the property descriptors for the class associated with the given object
+     *
+     * @param fromObj Use the class of this object
+     * @param stopClass Don't include any properties from this ancestor class upwards.
+     * @return Property descriptors
+     * @throws IllegalArgumentException if there's a introspection failure
+     */
+    public static PropertyDescriptor[] propertyDescriptorsFor(Object fromObj, Class<Object> stopClass) throws IllegalArgumentException {
+        return propertiesOf(fromObj.getClass(), stopClass).descriptors.clone();
+    }
+
+    /**
+     * Discards all cached introspection results, including those held by the
+     * {@link Introspector}.
+     */
+    public static void flushCache() {
+        PROPERTIES.clear();
+        Introspector.flushCaches();
+    }
+
+    /**
+     * Discards the cached introspection results for <var>type</var>, including those
+     * held by the {@link Introspector}.
+     */
+    public static void flushCache(Class<?> type) {
+        PROPERTIES.remove(type);
+        Introspector.flushFromCaches(type);
+    }
+
+    static long introspectionCount() {
+        return INTROSPECTIONS.get();
+    }
+
+    static BeanProperties propertiesOf(Class<?> type, Class<?> stopClass) throws IllegalArgumentException {
+        final ConcurrentMap<Object, BeanProperties> byStopClass = PROPERTIES.get(type);
+        final Object key = (stopClass == null) ? NO_STOP_CLASS : stopClass;
+        BeanProperties properties = byStopClass.get(key);
+        if (properties == null) {
+            properties = new BeanProperties(introspect(type, stopClass));
+            final BeanProperties raced = byStopClass.putIfAbsent(key, properties);
+            if (raced != null) {
+                properties = raced;
+            }
+        }
+        return properties;
+    }
+
+    private static PropertyDescriptor[] introspect(Class<?> type, Class<?> stopClass) {
+      INTROSPECTIONS.incrementAndGet();
+      try {
+        return Introspector.getBeanInfo(type, stopClass).getPropertyDescriptors();
+      } catch (IntrospectionException e) {
+        throw new IllegalArgumentException("Could not get property descriptors for " + type, e);
+      }
+    }
+
+    /**
+     * The properties of a class, in introspection order and indexed by name.
+     */
+    static final class BeanProperties {
+        final PropertyDescriptor[] descriptors;
+        final PropertyAccessor[] accessors;
+        private final Map<String, PropertyAccessor> byName;
+
+        BeanProperties(PropertyDescriptor[] descriptors) {
+            this.descriptors = descriptors;
+            this.accessors = new PropertyAccessor[descriptors.length];
+            this.byName = new HashMap<String, PropertyAccessor>(descriptors.length * 2);
+            for (int i = 0; i < descriptors.length; i++) {
+                accessors[i] = new PropertyAccessor(descriptors[i]);
+                if (!byName.containsKey(descriptors[i].getName())) {
+                    byName.put(descriptors[i].getName(), accessors[i]);
+                }
+            }
+        }
+
+        /**
+         * @return the descriptor of the property, or null if the property does not exist.
+         */
+        PropertyDescriptor named(String propertyName) {
+            final PropertyAccessor accessor = byName.get(propertyName);
+            return accessor == null ? null : accessor.descriptor();
+        }
+
+        /**
+         * @return the accessor for the property, or null if the property does not exist.
+         */
+        PropertyAccessor accessor(String propertyName) {
+            return byName.get(propertyName);
+        }
+    }
+
+    public static final Object[] NO_ARGUMENTS = new Object[0];
+}
@@ -0,0 +1,172 @@
+package org.hamcrest.beans;
+
+import static org.hamcrest.core.IsEqual.equalTo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hamcrest.Description;
+import org.hamcrest.DiagnosingMatcher;
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.hamcrest.internal.Descriptions;
+import org.hamcrest.internal.ClassCache;
+
+/**
+ * The counterpart of {@link SamePropertyValuesAs} for value types without getters:
+ * compares the components of records, or otherwise the public fields, of the examined
+ * object with those of an expected object.
+ */
+public class SameFieldValuesAs<T> extends TypeSafeDiagnosingMatcher<T> {
+    private static final ClassCache<Set<String>> NAMES = new ClassCache<Set<String>>() {
+        @Override
+        protected Set<String> computeValue(Class<?> type) {
+            final Set<String> names = new HashSet<String>();
+            for (FieldAccessor field : FieldUtil.valuesOf(type).accessors) {
+                names.add(field.name());
+            }
+            return names;
+        }
+    };
+
+    private final T expectedValue;
+    private final Set<String> fieldNames;
+    private final List<FieldMatcher> fieldMatchers;
+    private volatile ExtraFields lastExtraFields;
+
+    public SameFieldValuesAs(T expectedValue) {
+        this.expectedValue = expectedValue;
+        this.fieldNames = NAMES.get(expectedValue.getClass());
+        this.fieldMatchers = fieldMatchersFor(expectedValue, FieldUtil.valuesOf(expectedValue.getClass()).accessors);
+    }
+
+    @Override
+    public boolean matchesSafely(T item, Description mismatch) {
+        return isCompatibleType(item, mismatch)
+                && hasNoExtraFields(item, mismatch)
+                && hasMatchingValues(item, mismatch);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("same field values as " + expectedValue.getClass().getSimpleName())
+                   .appendList(" [", ", ", "]", fieldMatchers);
+    }
+
+    private boolean isCompatibleType(T item, Description mismatchDescription) {
+        if (!expectedValue.getClass().isAssignableFrom(item.getClass())) {
+            mismatchDescription.appendText("is incompatible type: " + item.getClass().getSimpleName());
+            return false;
+        }
+        return true;
+    }
+
+    private boolean hasNoExtraFields(T item, Description mismatchDescription) {
+        ExtraFields extra = lastExtraFields;
+        if (extra == null || extra.actualType != item.getClass()) {
+            extra = new ExtraFields(item.getClass(), extraFieldsOf(item.getClass()));
+            lastExtraFields = extra;
+        }
+        if (extra.names.length > 0) {
+            mismatchDescription.appendText("has extra fields called " + Arrays.asList(extra.names));
+            return false;
+        }
+        return true;
+    }
+
+    private boolean hasMatchingValues(T item, Description mismatchDescription) {
+        boolean matches = true;
+        for (int i = 0; i < fieldMatchers.size(); i++) {
+            final FieldMatcher fieldMatcher = fieldMatchers.get(i);
+            if (!fieldMatcher.matches(item)) {
+                if (!Descriptions.isEnabled(mismatchDescription)) {
+                    return false;
+                }
+                if (!matches) {
+                    mismatchDescription.appendText(", ");
+                }
+                fieldMatcher.describeMismatch(item, mismatchDescription);
+                matches = false;
+            }
+        }
+        return matches;
+    }
+
+    private String[] extraFieldsOf(Class<?> actualType) {
+        final Set<String> extra = new HashSet<String>(NAMES.get(actualType));
+        extra.removeAll(fieldNames);
+        return extra.toArray(new String[extra.size()]);
+    }
+
+    private static List<FieldMatcher> fieldMatchersFor(Object expectedValue, FieldAccessor[] fields) {
+        final List<FieldMatcher> result = new ArrayList<FieldMatcher>(fields.length);
+        for (FieldAccessor field : fields) {
+            result.add(new FieldMatcher(field, expectedValue));
+        }
+        return result;
+    }
+
+    private static Object readField(FieldAccessor field, Object target) {
+        try {
+            return field.read(target);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Could not read " + field + " of " + target, e);
+        }
+    }
+
+    private static final class FieldMatcher extends DiagnosingMatcher<Object> {
+        private final FieldAccessor field;
+        private final Matcher<Object> matcher;
+
+        FieldMatcher(FieldAccessor field, Object expectedValue) {
+            this.field = field;
+            this.matcher = equalTo(readField(field, expectedValue));
+        }
+
+        @Override
+        public boolean matches(Object actual, Description mismatch) {
+            final Object actualValue = readField(field, actual);
+            if (!matcher.matches(actualValue)) {
+                mismatch.appendText(field.name() + " ");
+                matcher.describeMismatch(actualValue, mismatch);
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendText(field.name() + ": ").appendDescriptionOf(matcher);
+        }
+    }
+
+    private static final class ExtraFields {
+        final Class<?> actualType;
+        final String[] names;
+
+        ExtraFields(Class<?> actualType, String[] names) {
+            this.actualType = actualType;
+            this.names = names;
+        }
+    }
+
+    /**
+     * Creates a matcher that matches when the examined object has values for all of
+     * its record components, or public fields if it is not a record, that are equal
+     * to the corresponding values of the specified object.
+     * <p/>
+     * For example:
+     * <pre>assertThat(myPoint, sameFieldValuesAs(myExpectedPoint))</pre>
+     *
+     * @param expectedValue
+     *     the object against which examined objects are compared
+     */
+    @Factory
+    public static <T> Matcher<T> sameFieldValuesAs(T expectedValue) {
+        return new SameFieldValuesAs<T>(expectedValue);
+    }
+}
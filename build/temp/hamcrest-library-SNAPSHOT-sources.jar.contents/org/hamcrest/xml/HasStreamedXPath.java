@@ -0,0 +1,217 @@
+package org.hamcrest.xml;
+
+import static org.hamcrest.Condition.matched;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.Source;
+import javax.xml.transform.stream.StreamSource;
+
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * Applies a Matcher to the value at an XPath in an XML document that is read as a stream,
+ * without building a DOM, so that documents too large to hold in memory can be checked.
+ * Only a subset of XPath is supported: absolute paths of child and descendant steps, with
+ * position and attribute predicates, optionally ending with an attribute. Reading stops
+ * as soon as the value at the path has been found, or is known not to exist.
+ * <p/>
+ * A stream can only be read once, so the examined stream is read again if a mismatch is
+ * described separately from the match. <code>assertThat</code> reads it only once.
+ * Streams passed in are not closed; files are.
+ */
+public class HasStreamedXPath<T> extends TypeSafeDiagnosingMatcher<T> {
+    private static final XMLInputFactory INPUT_FACTORY = inputFactory();
+
+    private final Input<T> input;
+    private final String xpathString;
+    private final StreamingPath path;
+    private final Matcher<String> valueMatcher;
+
+    private HasStreamedXPath(Input<T> input, String xPathExpression, Matcher<? super String> valueMatcher) {
+        super(input.type);
+        this.input = input;
+        this.xpathString = xPathExpression;
+        this.path = StreamingPath.parse(xPathExpression);
+        this.valueMatcher = nastyGenericsWorkaround(valueMatcher);
+    }
+
+    @Override
+    public boolean matchesSafely(T item, Description mismatch) {
+        final String value;
+        try {
+            value = input.firstValueAt(path, item);
+        } catch (XMLStreamException e) {
+            mismatch.appendText(e.getMessage());
+            return false;
+        } catch (IOException e) {
+            mismatch.appendText(e.getMessage());
+            return false;
+        }
+        if (value == null) {
+            mismatch.appendText("xpath returned no results.");
+            return false;
+        }
+        return matched(value, mismatch).matching(valueMatcher);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("an XML document with XPath ").appendText(xpathString)
+                   .appendText(" ").appendDescriptionOf(valueMatcher);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Matcher<String> nastyGenericsWorkaround(Matcher<? super String> valueMatcher) {
+        return (Matcher<String>) valueMatcher;
+    }
+
+    private static XMLInputFactory inputFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.TRUE);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        return factory;
+    }
+
+    private static String firstValueIn(StreamingPath path, InputStream in) throws XMLStreamException {
+        final XMLStreamReader reader;
+        synchronized (INPUT_FACTORY) {
+            reader = INPUT_FACTORY.createXMLStreamReader(in);
+        }
+        try {
+            return path.firstValueIn(reader);
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Reads the examined objects of one type.
+     */
+    private static abstract class Input<T> {
+        final Class<T> type;
+
+        Input(Class<T> type) {
+            this.type = type;
+        }
+
+        abstract String firstValueAt(StreamingPath path, T item) throws XMLStreamException, IOException;
+    }
+
+    private static final Input<InputStream> STREAM = new Input<InputStream>(InputStream.class) {
+        @Override
+        String firstValueAt(StreamingPath path, InputStream in) throws XMLStreamException {
+            return firstValueIn(path, in);
+        }
+    };
+
+    private static final Input<File> FILE = new Input<File>(File.class) {
+        @Override
+        String firstValueAt(StreamingPath path, File file) throws XMLStreamException, IOException {
+            final InputStream in = new FileInputStream(file);
+            try {
+                return firstValueIn(path, in);
+            } finally {
+                in.close();
+            }
+        }
+    };
+
+    private static final Input<Source> SOURCE = new Input<Source>(Source.class) {
+        @Override
+        String firstValueAt(StreamingPath path, Source source) throws XMLStreamException, IOException {
+            if (source instanceof StreamSource) {
+                final StreamSource stream = (StreamSource) source;
+                if (stream.getInputStream() != null) {
+                    return firstValueIn(path, stream.getInputStream());
+                }
+                if (stream.getReader() == null && stream.getSystemId() != null) {
+                    final InputStream in = new URL(stream.getSystemId()).openStream();
+                    try {
+                        return firstValueIn(path, in);
+                    } finally {
+                        in.close();
+                    }
+                }
+            }
+            final XMLStreamReader reader;
+            try {
+                synchronized (INPUT_FACTORY) {
+                    reader = INPUT_FACTORY.createXMLStreamReader(source);
+                }
+            } catch (UnsupportedOperationException e) {
+                throw new XMLStreamException("cannot read a " + source.getClass().getName() + " as a stream");
+            }
+            try {
+                return path.firstValueIn(reader);
+            } finally {
+                reader.close();
+            }
+        }
+    };
+
+    /**
+     * Creates a matcher of {@link Source}s that matches when the examined XML has a value at
+     * the specified <code>xPath</code> that satisfies the specified <code>valueMatcher</code>.
+     * The XML is read as a stream of events, not built into a DOM, so sources that cannot
+     * be read as a stream, such as a <code>DOMSource</code>, do not match.
+     * <p/>
+     * For example:
+     * <pre>assertThat(new StreamSource(export), hasXPathInSource("/order/line[3]/@sku", equalTo("ABC-123")))</pre>
+     *
+     * @param xPath
+     *     the target xpath, in the subset of XPath that can be streamed
+     * @param valueMatcher
+     *     matcher for the value at the specified xpath
+     */
+    @Factory
+    public static Matcher<Source> hasXPathInSource(String xPath, Matcher<? super String> valueMatcher) {
+        return new HasStreamedXPath<Source>(SOURCE, xPath, valueMatcher);
+    }
+
+    /**
+     * Creates a matcher of {@link InputStream}s that matches when the examined XML has a value at
+     * the specified <code>xPath</code> that satisfies the specified <code>valueMatcher</code>.
+     * The XML is read as a stream of events, not built into a DOM.
+     * <p/>
+     * For example:
+     * <pre>assertThat(in, hasXPathInStream("//line[@sku='ABC-123']/quantity", equalTo("3")))</pre>
+     *
+     * @param xPath
+     *     the target xpath, in the subset of XPath that can be streamed
+     * @param valueMatcher
+     *     matcher for the value at the specified xpath
+     */
+    @Factory
+    public static Matcher<InputStream> hasXPathInStream(String xPath, Matcher<? super String> valueMatcher) {
+        return new HasStreamedXPath<InputStream>(STREAM, xPath, valueMatcher);
+    }
+
+    /**
+     * Creates a matcher of {@link File}s that matches when the examined XML file has a value at
+     * the specified <code>xPath</code> that satisfies the specified <code>valueMatcher</code>.
+     * The file is read as a stream of events, not built into a DOM.
+     * <p/>
+     * For example:
+     * <pre>assertThat(exportFile, hasXPathInFile("/order/@id", equalTo("42")))</pre>
+     *
+     * @param xPath
+     *     the target xpath, in the subset of XPath that can be streamed
+     * @param valueMatcher
+     *     matcher for the value at the specified xpath
+     */
+    @Factory
+    public static Matcher<File> hasXPathInFile(String xPath, Matcher<? super String> valueMatcher) {
+        return new HasStreamedXPath<File>(FILE, xPath, valueMatcher);
+    }
+}
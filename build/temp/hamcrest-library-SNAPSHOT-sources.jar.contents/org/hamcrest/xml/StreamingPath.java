@@ -0,0 +1,358 @@
+package org.hamcrest.xml;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * The subset of XPath that can be evaluated in one pass over a stream of XML events,
+ * holding no more than one frame for each open element. A path is absolute and made of
+ * child (<code>/</code>) and descendant (<code>//</code>) steps, each naming an element
+ * or <code>*</code> with an optional position (<code>[2]</code>) or attribute
+ * (<code>[@id='b']</code>) predicate, and may end with an attribute (<code>/@sku</code>).
+ * Names have no prefix, and so match only elements and attributes in no namespace.
+ * <p/>
+ * Like the XPath <code>string()</code> function, evaluation yields the value of the first
+ * node found, in document order, and stops reading as soon as that is known, or as soon
+ * as it is certain that no node can be found.
+ */
+final class StreamingPath {
+    private static final int MAX_STEPS = 63;
+
+    private final Step[] steps;
+    private final String attribute;
+    private final boolean[] lastCandidate;
+
+    private StreamingPath(Step[] steps, String attribute) {
+        this.steps = steps;
+        this.attribute = attribute;
+        this.lastCandidate = new boolean[steps.length];
+        boolean unique = true;
+        for (int k = 0; k < steps.length; k++) {
+            unique = unique && !steps[k].descendant && (k == 0 || steps[k].position > 0);
+            lastCandidate[k] = unique;
+        }
+    }
+
+    static StreamingPath parse(String expression) throws IllegalArgumentException {
+        final List<Step> steps = new ArrayList<Step>();
+        String attribute = null;
+        final int length = expression.length();
+        int position = 0;
+        if (length == 0 || expression.charAt(0) != '/') {
+            throw unsupported(expression);
+        }
+        while (position < length) {
+            final boolean descendant = expression.startsWith("//", position);
+            position += descendant ? 2 : 1;
+            if (position < length && expression.charAt(position) == '@') {
+                final int end = endOfName(expression, position + 1);
+                if (descendant || end == position + 1 || end != length) {
+                    throw unsupported(expression);
+                }
+                attribute = expression.substring(position + 1, end);
+                break;
+            }
+            final int nameEnd = expression.startsWith("*", position) ? position + 1 : endOfName(expression, position);
+            if (nameEnd == position) {
+                throw unsupported(expression);
+            }
+            final Step step = new Step(descendant, expression.substring(position, nameEnd));
+            position = nameEnd;
+            if (position < length && expression.charAt(position) == '[') {
+                final int close = expression.indexOf(']', position);
+                if (close < 0) {
+                    throw unsupported(expression);
+                }
+                step.predicate(expression, expression.substring(position + 1, close));
+                position = close + 1;
+            }
+            if (position < length && expression.charAt(position) != '/') {
+                throw unsupported(expression);
+            }
+            steps.add(step);
+        }
+        if (steps.isEmpty() || steps.size() > MAX_STEPS) {
+            throw unsupported(expression);
+        }
+        return new StreamingPath(steps.toArray(new Step[steps.size()]), attribute);
+    }
+
+    /**
+     * Reads from <var>reader</var> until the path is decided.
+     *
+     * @return the string value of the first node on the path, or null if there is none
+     */
+    String firstValueIn(final XMLStreamReader reader) throws XMLStreamException {
+        final Evaluation evaluation = new Evaluation();
+        final Element element = new Element() {
+            @Override public String namespaceURI() {
+                final String namespaceURI = reader.getNamespaceURI();
+                return (namespaceURI == null || namespaceURI.length() == 0) ? null : namespaceURI;
+            }
+
+            @Override public String localName() {
+                return reader.getLocalName();
+            }
+
+            @Override public String attribute(String name) {
+                for (int i = 0; i < reader.getAttributeCount(); i++) {
+                    final String namespaceURI = reader.getAttributeNamespace(i);
+                    if ((namespaceURI == null || namespaceURI.length() == 0)
+                            && name.equals(reader.getAttributeLocalName(i))) {
+                        return reader.getAttributeValue(i);
+                    }
+                }
+                return null;
+            }
+        };
+        while (!evaluation.isDecided() && reader.hasNext()) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    evaluation.startElement(element);
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    evaluation.endElement();
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                case XMLStreamConstants.ENTITY_REFERENCE:
+                    evaluation.text(reader.getText());
+                    break;
+                default:
+                    break;
+            }
+        }
+        return evaluation.value();
+    }
+
+    /**
+     * @return a new evaluation of this path, to be fed the events of one document
+     */
+    Evaluation evaluation() {
+        return new Evaluation();
+    }
+
+    /**
+     * The element at the current position in a document. A null namespace matches names
+     * without a prefix.
+     */
+    interface Element {
+        String namespaceURI();
+        String localName();
+
+        /**
+         * @return the value of the attribute with the given unprefixed name, or null if there is none
+         */
+        String attribute(String name);
+    }
+
+    /**
+     * The progress of the path through the events of one document, which holds a frame
+     * for each open element and is decided, one way or the other, as early as possible.
+     */
+    final class Evaluation {
+        private final List<Frame> frames = new ArrayList<Frame>();
+        private int depth;
+        private StringBuilder text;
+        private int textDepth;
+        private boolean decided;
+        private String value;
+
+        Evaluation() {
+            final Frame document = new Frame(steps.length);
+            document.matched = 1L;
+            document.reach = 1L;
+            frames.add(document);
+        }
+
+        boolean isDecided() {
+            return decided;
+        }
+
+        /**
+         * @return the string value of the first node on the path, or null if there is none
+         *     or the evaluation has not been decided
+         */
+        String value() {
+            return value;
+        }
+
+        void startElement(Element element) {
+            if (decided) {
+                return;
+            }
+            if (text != null) {
+                textDepth++;
+                return;
+            }
+            final Frame parent = frames.get(depth);
+            depth++;
+            if (frames.size() == depth) {
+                frames.add(new Frame(steps.length));
+            }
+            final Frame frame = frames.get(depth).reset();
+            frame.matched = matchedSteps(element, parent);
+            frame.reach = parent.reach | frame.matched;
+            if ((frame.matched & (1L << steps.length)) != 0) {
+                if (attribute == null) {
+                    text = new StringBuilder();
+                    textDepth = 1;
+                    return;
+                }
+                final String attributeValue = element.attribute(attribute);
+                if (attributeValue != null) {
+                    decide(attributeValue);
+                    return;
+                }
+            }
+            if (depth == 1 && !steps[0].descendant && (frame.matched & 2L) == 0) {
+                decide(null);
+            }
+        }
+
+        void endElement() {
+            if (decided) {
+                return;
+            }
+            if (text != null) {
+                if (--textDepth == 0) {
+                    decide(text.toString());
+                }
+                return;
+            }
+            final long matched = frames.get(depth).matched;
+            depth--;
+            for (int k = 0; k < steps.length; k++) {
+                if (lastCandidate[k] && (matched & (1L << (k + 1))) != 0) {
+                    decide(null);
+                    return;
+                }
+            }
+        }
+
+        void text(String characters) {
+            if (text != null && !decided) {
+                text.append(characters);
+            }
+        }
+
+        private void decide(String result) {
+            decided = true;
+            value = result;
+            text = null;
+        }
+    }
+
+    /**
+     * @return a mask with bit <var>k</var>+1 set for each step <var>k</var> at which the
+     *     path, followed from the document, reaches the element
+     */
+    private long matchedSteps(Element element, Frame parent) {
+        long matched = 0L;
+        final String namespaceURI = element.namespaceURI();
+        final String localName = element.localName();
+        for (int k = 0; k < steps.length; k++) {
+            final Step step = steps[k];
+            final long from = step.descendant ? parent.reach : parent.matched;
+            if ((from & (1L << k)) == 0 || !step.matches(namespaceURI, localName, element)) {
+                continue;
+            }
+            if (step.position > 0 && ++parent.counts[k] != step.position) {
+                continue;
+            }
+            matched |= 1L << (k + 1);
+        }
+        return matched;
+    }
+
+    private static int endOfName(String expression, int start) {
+        int end = start;
+        while (end < expression.length() && isNameChar(expression.charAt(end))) {
+            end++;
+        }
+        return end;
+    }
+
+    private static boolean isNameChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == '.';
+    }
+
+    private static IllegalArgumentException unsupported(String expression) {
+        return new IllegalArgumentException("Unsupported XPath : " + expression);
+    }
+
+    private static final class Step {
+        final boolean descendant;
+        final String name;
+        int position;
+        String attributeName;
+        String attributeValue;
+
+        Step(boolean descendant, String name) {
+            this.descendant = descendant;
+            this.name = name;
+        }
+
+        void predicate(String expression, String predicate) {
+            if (predicate.length() > 0 && endOfDigits(predicate) == predicate.length()) {
+                try {
+                    position = Integer.parseInt(predicate);
+                } catch (NumberFormatException e) {
+                    throw unsupported(expression);
+                }
+                if (position < 1) {
+                    throw unsupported(expression);
+                }
+                return;
+            }
+            final int equals = predicate.indexOf('=');
+            if (!predicate.startsWith("@") || equals < 0 || endOfName(predicate, 1) != equals || equals == 1) {
+                throw unsupported(expression);
+            }
+            final String quoted = predicate.substring(equals + 1);
+            if (quoted.length() < 2 || (quoted.charAt(0) != '\'' && quoted.charAt(0) != '"')
+                    || quoted.charAt(quoted.length() - 1) != quoted.charAt(0)) {
+                throw unsupported(expression);
+            }
+            attributeName = predicate.substring(1, equals);
+            attributeValue = quoted.substring(1, quoted.length() - 1);
+        }
+
+        boolean matches(String namespaceURI, String localName, Element element) {
+            return ("*".equals(name) || (namespaceURI == null && name.equals(localName)))
+                && (attributeName == null || attributeValue.equals(element.attribute(attributeName)));
+        }
+
+        private static int endOfDigits(String text) {
+            int end = 0;
+            while (end < text.length() && Character.isDigit(text.charAt(end))) {
+                end++;
+            }
+            return end;
+        }
+    }
+
+    private static final class Frame {
+        final int[] counts;
+        long matched;
+        long reach;
+
+        Frame(int steps) {
+            this.counts = new int[steps];
+        }
+
+        Frame reset() {
+            for (int k = 0; k < counts.length; k++) {
+                counts[k] = 0;
+            }
+            matched = 0L;
+            reach = 0L;
+            return this;
+        }
+    }
+}
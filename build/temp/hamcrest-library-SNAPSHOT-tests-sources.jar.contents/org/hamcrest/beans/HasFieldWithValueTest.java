@@ -0,0 +1,183 @@
+package org.hamcrest.beans;
+
+import static org.hamcrest.beans.HasFieldWithValue.hasComponent;
+import static org.hamcrest.beans.HasFieldWithValue.hasField;
+import static org.hamcrest.core.IsAnything.anything;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.hamcrest.AbstractMatcherTest;
+import org.hamcrest.Matcher;
+
+public class HasFieldWithValueTest extends AbstractMatcherTest {
+  private final Point point = new Point(3, 4);
+
+  @Override
+  protected Matcher<?> createMatcher() {
+    return hasField("irrelevant", anything());
+  }
+
+  public void testMatchesPublicFieldWithMatchingValue() {
+    assertMatches("x", hasField("x", equalTo(3)), point);
+    assertMatches("inherited field", hasField("y", equalTo(4)), new NamedPoint("p", 3, 4));
+    assertMismatchDescription("field 'x' was <3>", hasField("x", equalTo(4)), point);
+  }
+
+  public void testMatchesPublicFieldOfClassThatIsNotPublic() {
+    assertMatches("private class", hasField("z", equalTo(5)), new PrivatePoint());
+  }
+
+  public void testDoesNotMatchWhenThereIsNoSuchPublicField() {
+    assertMismatchDescription("No field \"z\"", hasField("z", anything()), point);
+    assertMismatchDescription("No field \"hidden\"", hasField("hidden", anything()), point);
+    assertMismatchDescription("No field \"ORIGIN\"", hasField("ORIGIN", anything()), point);
+  }
+
+  public void testMatchesObjectsOfDifferentClassesWithTheSameMatcher() {
+    Matcher<Object> matcher = hasField("x", equalTo(3));
+    assertMatches("point", matcher, point);
+    assertMatches("named point", matcher, new NamedPoint("p", 3, 0));
+    assertMismatchDescription("No field \"x\"", matcher, "a string");
+    assertMatches("point again", matcher, point);
+  }
+
+  public void testDoesNotFindComponentsOfClassesThatAreNotRecords() {
+    assertMismatchDescription("No component \"x\"", hasComponent("x", anything()), point);
+  }
+
+  public void testMatchesComponentsOfRecordsThatAreNotPublic() throws Exception {
+    if (records() == null) {
+      return; // this JVM has no records
+    }
+    assertMatches("public record", hasComponent("x", equalTo(3)), record("point", 3, 4));
+    assertMatches("package-private record", hasComponent("name", equalTo("h")), record("hidden", "h"));
+    assertMatches("private nested record", hasComponent("code", equalTo(7)), record("secret", 7));
+    assertMismatchDescription("component 'code' was <7>", hasComponent("code", equalTo(8)), record("secret", 7));
+    assertMismatchDescription("No field \"code\"", hasField("code", anything()), record("secret", 7));
+  }
+
+  public void testHasAReadableDescription() {
+    assertDescription("hasField(\"x\", <3>)", hasField("x", equalTo(3)));
+    assertDescription("hasComponent(\"x\", <3>)", hasComponent("x", equalTo(3)));
+  }
+
+  private static final String RECORDS_SOURCE =
+      "package records;\n"
+    + "public class Records {\n"
+    + "  public record Point(int x, int y) { }\n"
+    + "  private record Secret(int code) { }\n"
+    + "  public static Object point(int x, int y) { return new Point(x, y); }\n"
+    + "  public static Object hidden(String name) { return new Hidden(name); }\n"
+    + "  public static Object secret(int code) { return new Secret(code); }\n"
+    + "}\n"
+    + "record Hidden(String name) { }\n";
+
+  private static Class<?> records;
+
+  /**
+   * Records cannot be written at the source level of these tests, so they are compiled
+   * when first needed.
+   *
+   * @return the class with a factory method for each record, or null if this JVM has no records
+   */
+  static synchronized Class<?> records() throws Exception {
+    if (records != null) {
+      return records;
+    }
+    try {
+      Class.class.getMethod("isRecord");
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+    final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    if (compiler == null) {
+      return null;
+    }
+    final File directory = new File(System.getProperty("java.io.tmpdir"), "hamcrest-records-" + System.nanoTime());
+    final File packageDirectory = new File(directory, "records");
+    assertTrue("created " + packageDirectory, packageDirectory.mkdirs());
+    try {
+      final File source = new File(packageDirectory, "Records.java");
+      final Writer out = new OutputStreamWriter(new FileOutputStream(source), "UTF-8");
+      try {
+        out.write(RECORDS_SOURCE);
+      } finally {
+        out.close();
+      }
+      assertEquals("compiled", 0, compiler.run(null, null, null, "-d", directory.getPath(), source.getPath()));
+      final ClassLoader loader =
+          new URLClassLoader(new URL[] { directory.toURI().toURL() }, HasFieldWithValueTest.class.getClassLoader());
+      for (String file : packageDirectory.list()) {
+        if (file.endsWith(".class")) {
+          Class.forName("records." + file.substring(0, file.length() - ".class".length()), true, loader);
+        }
+      }
+      records = loader.loadClass("records.Records");
+      return records;
+    } finally {
+      delete(directory);
+    }
+  }
+
+  private static void delete(File file) {
+    final File[] children = file.listFiles();
+    if (children != null) {
+      for (File child : children) {
+        delete(child);
+      }
+    }
+    if (!file.delete()) {
+      file.deleteOnExit();
+    }
+  }
+
+  static Object record(String factory, Object... arguments) throws Exception {
+    for (Method method : records().getMethods()) {
+      if (method.getName().equals(factory)) {
+        return method.invoke(null, arguments);
+      }
+    }
+    throw new IllegalArgumentException("No record factory " + factory);
+  }
+
+  public static class Point {
+    public static final Point ORIGIN = new Point(0, 0);
+    public final int x;
+    public final int y;
+    @SuppressWarnings("unused")
+    private final int hidden = 0;
+
+    public Point(int x, int y) {
+      this.x = x;
+      this.y = y;
+    }
+
+    @Override
+    public String toString() {
+      return "(" + x + ", " + y + ")";
+    }
+  }
+
+  private static class PrivatePoint {
+    public final int z = 5;
+  }
+
+  public static class NamedPoint extends Point {
+    public final String name;
+
+    public NamedPoint(String name, int x, int y) {
+      super(x, y);
+      this.name = name;
+    }
+  }
+}
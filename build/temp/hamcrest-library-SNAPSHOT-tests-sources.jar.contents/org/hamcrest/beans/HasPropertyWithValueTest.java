@@ -0,0 +1,224 @@
+/*  Copyright (c) 2000-20010 hamcrest.org
+ */
+package org.hamcrest.beans;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.beans.HasPropertyWithValue.hasProperty;
+import static org.hamcrest.core.IsAnything.anything;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNull.nullValue;
+
+import java.beans.IntrospectionException;
+import java.beans.PropertyDescriptor;
+import java.beans.SimpleBeanInfo;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hamcrest.AbstractMatcherTest;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.hamcrest.core.IsEqual;
+
+/**
+ * @author Iain McGinniss
+ * @author Nat Pryce
+ * @author Steve Freeman
+ * @since 1.1.0
+ */
+public class HasPropertyWithValueTest extends AbstractMatcherTest {
+  private final BeanWithoutInfo shouldMatch = new BeanWithoutInfo("is expected");
+  private final BeanWithoutInfo shouldNotMatch = new BeanWithoutInfo("not expected");
+
+  private final BeanWithInfo beanWithInfo = new BeanWithInfo("with info");
+
+  @Override
+  protected Matcher<?> createMatcher() {
+    return hasProperty("irrelevant", anything());
+  }
+
+  public void testMatchesInfolessBeanWithMatchedNamedProperty() {
+    assertMatches("with property", hasProperty("property", equalTo("is expected")), shouldMatch);
+    assertMismatchDescription("property 'property' was \"not expected\"", 
+                              hasProperty("property", equalTo("is expected")), shouldNotMatch);
+  }
+
+  public void testMatchesBeanWithInfoWithMatchedNamedProperty() {
+    assertMatches("with bean info", hasProperty("property", equalTo("with info")), beanWithInfo);
+    assertMismatchDescription("property 'property' was \"with info\"", 
+        hasProperty("property", equalTo("without info")), beanWithInfo);
+  }
+
+  public void testDoesNotMatchInfolessBeanWithoutMatchedNamedProperty() {
+    assertMismatchDescription("No property \"nonExistentProperty\"", 
+                              hasProperty("nonExistentProperty", anything()), shouldNotMatch);
+   }
+
+  public void testDoesNotMatchWriteOnlyProperty() {
+    assertMismatchDescription("property \"writeOnlyProperty\" is not readable",
+                              hasProperty("writeOnlyProperty", anything()), shouldNotMatch); 
+  }
+
+  public void testDescribeTo() {
+    assertDescription("hasProperty(\"property\", <true>)", hasProperty("property", equalTo(true)));
+  }
+
+  public void testMatchesPropertyAndValue() {
+    assertMatches("property with value", hasProperty( "property", anything()), beanWithInfo);
+  }
+  
+  public void testDoesNotWriteMismatchIfPropertyMatches() {
+    Description description = new StringDescription();
+    hasProperty( "property", anything()).describeMismatch(beanWithInfo, description);
+    assertEquals("Expected mismatch description", "", description.toString());
+  }
+
+  public void testDescribesMissingPropertyMismatch() {
+    assertMismatchDescription("No property \"honk\"", hasProperty( "honk", anything()), shouldNotMatch);
+  }
+
+  public void testMatchesBeansOfDifferentClassesWithTheSameMatcher() {
+    Matcher<Object> matcher = hasProperty("property", equalTo("is expected"));
+    assertMatches("first class", matcher, shouldMatch);
+    assertMismatchDescription("property 'property' was \"with info\"", matcher, beanWithInfo);
+    assertMatches("first class again", matcher, shouldMatch);
+    assertMismatchDescription("No property \"property\"", matcher, "a string");
+  }
+
+  public void testDoesNotMatchWhenTheGetterThrows() {
+    assertMismatchDescription("property 'broken' threw java.lang.IllegalStateException: broken getter",
+                              hasProperty("broken", anything()), new BeanWithBrokenGetter());
+  }
+
+  public void testMatchesPropertiesAtTheEndOfAPath() {
+    Holder holder = new Holder(new Holder(null, shouldMatch), new BeanWithoutInfo[] { shouldNotMatch, shouldMatch });
+    assertMatches("nested", hasProperty("inner.bean.property", equalTo("is expected")), holder);
+    assertMatches("indexed array", hasProperty("beans[1].property", equalTo("is expected")), holder);
+    assertMatches("indexed list", hasProperty("beanList[0]", equalTo(shouldNotMatch)), holder);
+    assertMatches("null at the end of the path", hasProperty("inner.inner", nullValue()), holder);
+    assertDescription("hasProperty(\"inner.bean.property\", \"is expected\")",
+                      hasProperty("inner.bean.property", equalTo("is expected")));
+  }
+
+  public void testReportsTheSegmentOfAPathThatCouldNotBeRead() {
+    Holder holder = new Holder(new Holder(null, shouldMatch), new BeanWithoutInfo[] { shouldNotMatch });
+    assertMismatchDescription("property 'inner.bean.property' was \"is expected\"",
+                              hasProperty("inner.bean.property", equalTo("not expected")), holder);
+    assertMismatchDescription("property 'inner.inner' was null",
+                              hasProperty("inner.inner.bean", anything()), holder);
+    assertMismatchDescription("No property \"inner.honk\"",
+                              hasProperty("inner.honk.property", anything()), holder);
+    assertMismatchDescription("property \"inner.bean.writeOnlyProperty\" is not readable",
+                              hasProperty("inner.bean.writeOnlyProperty", anything()), holder);
+    assertMismatchDescription("property 'beans' has no element [1]",
+                              hasProperty("beans[1].property", anything()), holder);
+    assertMismatchDescription("property 'inner.bean' is not indexable",
+                              hasProperty("inner.bean[0]", anything()), holder);
+    assertMismatchDescription("property 'broken' threw java.lang.IllegalStateException: broken getter",
+                              hasProperty("broken.property", anything()), new BeanWithBrokenGetter());
+  }
+
+  public void testRejectsMalformedPaths() {
+    for (String path : new String[] { "a..b", "a.", ".a", "a[", "a[x]", "a[-1]", "a[0]b" }) {
+      try {
+        hasProperty(path, anything());
+        fail("should have rejected " + path);
+      } catch (IllegalArgumentException expected) { }
+    }
+  }
+
+  public void testCanAccessAnAnonymousInnerClass() {
+    class X implements IX {
+      @Override
+      public int getTest() {
+        return 1;
+      }
+    }
+
+    assertThat(new X(), HasPropertyWithValue.hasProperty("test", IsEqual.equalTo(1)));
+  }
+
+  interface IX {
+    int getTest();
+  }
+
+  public static class BeanWithoutInfo {
+    private String property;
+
+    public BeanWithoutInfo(String property) {
+      this.property = property;
+    }
+
+    public String getProperty() {
+      return property;
+    }
+
+    public void setProperty(String property) {
+      this.property = property;
+    }
+
+    public void setWriteOnlyProperty(@SuppressWarnings("unused") float property) {
+    }
+
+    @Override
+    public String toString() {
+      return "[Person: " + property + "]";
+    }
+  }
+
+  public static class Holder {
+    private final Holder inner;
+    private final BeanWithoutInfo bean;
+    private final BeanWithoutInfo[] beans;
+
+    public Holder(Holder inner, BeanWithoutInfo bean) {
+      this(inner, bean, null);
+    }
+
+    public Holder(Holder inner, BeanWithoutInfo[] beans) {
+      this(inner, null, beans);
+    }
+
+    private Holder(Holder inner, BeanWithoutInfo bean, BeanWithoutInfo[] beans) {
+      this.inner = inner;
+      this.bean = bean;
+      this.beans = beans;
+    }
+
+    public Holder getInner() { return inner; }
+    public BeanWithoutInfo getBean() { return bean; }
+    public BeanWithoutInfo[] getBeans() { return beans; }
+    public List<BeanWithoutInfo> getBeanList() { return Arrays.asList(beans); }
+  }
+
+  public static class BeanWithBrokenGetter {
+    public String getBroken() {
+      throw new IllegalStateException("broken getter");
+    }
+  }
+
+  public static class BeanWithInfo {
+    private final String propertyValue;
+
+    public BeanWithInfo(String propertyValue) {
+      this.propertyValue = propertyValue;
+    }
+
+    public String property() {
+      return propertyValue;
+    }
+  }
+
+  public static class BeanWithInfoBeanInfo extends SimpleBeanInfo {
+    @Override
+    public PropertyDescriptor[] getPropertyDescriptors() {
+      try {
+        return new PropertyDescriptor[] { 
+            new PropertyDescriptor("property", BeanWithInfo.class, "property", null) 
+          };
+      } catch (IntrospectionException e) {
+        throw new RuntimeException("Introspection exception: " + e.getMessage());
+      }
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package org.hamcrest.beans;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.beans.PropertyDescriptor;
+
+import org.junit.Test;
+
+public final class PropertyUtilTest {
+
+    private final HasPropertyWithValueTest.BeanWithoutInfo bean = new HasPropertyWithValueTest.BeanWithoutInfo("a bean");
+
+    @Test public void
+    findsPropertiesByName() {
+        assertEquals("property", PropertyUtil.getPropertyDescriptor("property", bean).getName());
+        assertEquals("writeOnlyProperty", PropertyUtil.getPropertyDescriptor("writeOnlyProperty", bean).getName());
+        assertNull(PropertyUtil.getPropertyDescriptor("aNonExistentProp", bean));
+    }
+
+    @Test public void
+    introspectsEachClassOncePerStopClass() {
+        PropertyUtil.getPropertyDescriptor("property", bean);
+        PropertyUtil.propertyDescriptorsFor(bean, Object.class);
+        final long introspections = PropertyUtil.introspectionCount();
+
+        PropertyUtil.getPropertyDescriptor("property", new HasPropertyWithValueTest.BeanWithoutInfo("another bean"));
+        PropertyUtil.getPropertyDescriptor("writeOnlyProperty", bean);
+        assertTrue(namesOf(PropertyUtil.propertyDescriptorsFor(bean, null)).contains("class "));
+        assertFalse(namesOf(PropertyUtil.propertyDescriptorsFor(bean, Object.class)).contains("class "));
+        assertEquals(introspections, PropertyUtil.introspectionCount());
+    }
+
+    @Test public void
+    flushingTheCacheIntrospectsAgain() {
+        PropertyUtil.getPropertyDescriptor("property", bean);
+        final long introspections = PropertyUtil.introspectionCount();
+
+        PropertyUtil.flushCache(bean.getClass());
+        assertEquals("property", PropertyUtil.getPropertyDescriptor("property", bean).getName());
+        assertEquals(introspections + 1, PropertyUtil.introspectionCount());
+
+        PropertyUtil.flushCache();
+        assertEquals("property", PropertyUtil.getPropertyDescriptor("property", bean).getName());
+        assertEquals(introspections + 2, PropertyUtil.introspectionCount());
+    }
+
+    @Test public void
+    doesNotShareTheCachedDescriptorArray() {
+        final PropertyDescriptor[] descriptors = PropertyUtil.propertyDescriptorsFor(bean, null);
+        descriptors[0] = null;
+
+        assertEquals(descriptors.length, PropertyUtil.propertyDescriptorsFor(bean, null).length);
+        assertNotNull(PropertyUtil.propertyDescriptorsFor(bean, null)[0]);
+    }
+
+    private static String namesOf(PropertyDescriptor[] descriptors) {
+        final StringBuilder names = new StringBuilder();
+        for (PropertyDescriptor descriptor : descriptors) {
+            names.append(descriptor.getName()).append(' ');
+        }
+        return names.toString();
+    }
+}
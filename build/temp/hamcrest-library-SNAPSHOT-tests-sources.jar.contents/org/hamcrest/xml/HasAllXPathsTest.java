@@ -0,0 +1,160 @@
+package org.hamcrest.xml;
+
+import static org.hamcrest.AbstractMatcherTest.assertDescription;
+import static org.hamcrest.AbstractMatcherTest.assertDoesNotMatch;
+import static org.hamcrest.AbstractMatcherTest.assertMatches;
+import static org.hamcrest.AbstractMatcherTest.assertMismatchDescription;
+import static org.hamcrest.AbstractMatcherTest.assertNullSafe;
+import static org.hamcrest.AbstractMatcherTest.assertUnknownTypeSafe;
+import static org.hamcrest.core.AllOf.allOf;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.StringContains.containsString;
+import static org.hamcrest.xml.HasAllXPaths.hasAllXPaths;
+import static org.hamcrest.xml.HasXPath.hasXPath;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+
+public final class HasAllXPathsTest {
+
+    private final Document xml = parse(""
+            + "<root type='food'>\n"
+            + "  <something id='a'><cheese>Edam</cheese></something>\n"
+            + "  <something id='b'><cheese>Cheddar</cheese><cheese>Brie</cheese></something>\n"
+            + "  <other><something id='c'><cheese>Stilton</cheese></something></other>\n"
+            + "  <f:foreignSomething xmlns:f=\"http://cheese.com\" milk=\"camel\">Cara<b>vane</b></f:foreignSomething>\n"
+            + "  <emptySomething />\n"
+            + "  <![CDATA[<loose>]]>\n"
+            + "</root>\n"
+            );
+
+    private final NamespaceContext ns = new NamespaceContext() {
+        @Override
+        public String getNamespaceURI(String prefix) {
+            return ("cheese".equals(prefix) ? "http://cheese.com" : null);
+        }
+
+        @Override
+        public String getPrefix(String namespaceURI) {
+            return ("http://cheese.com".equals(namespaceURI) ? "cheese" : null);
+        }
+
+        @Override
+        public Iterator<String> getPrefixes(String namespaceURI) {
+            HashSet<String> prefixes = new HashSet<String>();
+            String prefix = getPrefix(namespaceURI);
+            if (prefix != null) {
+                prefixes.add(prefix);
+            }
+            return prefixes.iterator();
+        }
+    };
+
+    @Test public void
+    copesWithNullsAndUnknownTypes() {
+        Matcher<Node> matcher = hasAllXPaths(hasXPath("//irrelevant"));
+
+        assertNullSafe(matcher);
+        assertUnknownTypeSafe(matcher);
+    }
+
+    @Test public void
+    matchesWhenEveryMatcherMatches() {
+        assertMatches(hasAllXPaths(
+                hasXPath("/root/something[2]/cheese", equalTo("Cheddar")),
+                hasXPath("//something[1]/cheese", containsString("dam")),
+                hasXPath("/root/@type", equalTo("food")),
+                hasXPath("//something[@id='c']/cheese", equalTo("Stilton")),
+                hasXPath("//cheese:foreignSomething/@milk", ns, equalTo("camel")),
+                hasXPath("count(//cheese)", equalTo("4")),
+                hasXPath("/root/emptySomething")), xml);
+    }
+
+    @Test public void
+    agreesWithAllOfOverEachExpression() {
+        final String[] expressions = {
+            "/root/something[2]/cheese", "/root/something/cheese", "/root/something[2]/cheese[2]", "//something[1]/@id",
+            "//other/something[1]/@id", "//something[3]", "/root/*[3]/something/@id", "/root/@type", "/root/@missing",
+            "//foreignSomething", "//b", "/root/emptySomething", "/root", "/other", "//something[@id='b']/cheese",
+            "//*[@milk='camel']", "/root/something[5]/cheese"
+        };
+        for (String expression : expressions) {
+            for (Matcher<String> value : valueMatchers()) {
+                assertSameOutcome(hasXPath(expression, value), hasXPath("/root/@type", equalTo("food")));
+                assertSameOutcome(hasXPath("/root/@type", equalTo("food")), hasXPath(expression, value));
+            }
+            assertSameOutcome(hasXPath(expression));
+        }
+    }
+
+    @Test public void
+    describesTheFirstMismatchAsAllOfWould() {
+        assertMismatchDescription("an XML document with XPath /root/something[1]/cheese \"Cheddar\" was \"Edam\"",
+                hasAllXPaths(hasXPath("/root/@type", equalTo("food")),
+                             hasXPath("/root/something[1]/cheese", equalTo("Cheddar")),
+                             hasXPath("/root/something[2]/cheese", equalTo("Edam"))), xml);
+        assertMismatchDescription("an XML document with XPath //honky  xpath returned no results.",
+                hasAllXPaths(hasXPath("//honky"), hasXPath("/root")), xml);
+    }
+
+    @Test public void
+    evaluatesEachMatcherSeparatelyOnNodesOtherThanDocuments() {
+        final Node something = xml.getDocumentElement().getElementsByTagName("something").item(1);
+        assertMatches(hasAllXPaths(hasXPath("cheese", equalTo("Cheddar")), hasXPath("/root/@type", equalTo("food"))), something);
+        assertDoesNotMatch(hasAllXPaths(hasXPath("/root/@type", equalTo("drink"))), something);
+    }
+
+    @Test public void
+    describesItselfAsAllOfWould() {
+        assertDescription("(an XML document with XPath /some/path \"Cheddar\" and an XML document with XPath /other )",
+                          hasAllXPaths(hasXPath("/some/path", equalTo("Cheddar")), hasXPath("/other")));
+    }
+
+    private List<Matcher<String>> valueMatchers() {
+        final List<Matcher<String>> matchers = new ArrayList<Matcher<String>>();
+        for (String value : new String[] { "", "Edam", "Cheddar", "Brie", "Stilton", "food", "a", "b", "c", "Caravane", "vane" }) {
+            matchers.add(equalTo(value));
+        }
+        matchers.add(not(equalTo("")));
+        return matchers;
+    }
+
+    private void assertSameOutcome(Matcher<Node>... matchers) {
+        final Matcher<Node> composite = hasAllXPaths(matchers);
+        final Matcher<Node> expected = allOf(matchers);
+        final String about = StringDescription.toString(composite);
+        assertEquals(about, expected.matches(xml), composite.matches(xml));
+        assertEquals(about, mismatchOf(expected), mismatchOf(composite));
+    }
+
+    private String mismatchOf(Matcher<Node> matcher) {
+        final StringDescription mismatch = new StringDescription();
+        matcher.describeMismatch(xml, mismatch);
+        return mismatch.toString();
+    }
+
+    private static Document parse(String xml) {
+        try {
+            DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();
+            documentBuilderFactory.setNamespaceAware(true);
+            return documentBuilderFactory.newDocumentBuilder().parse(new ByteArrayInputStream(xml.getBytes()));
+        }
+        catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package org.hamcrest.xml;
+
+import static org.hamcrest.AbstractMatcherTest.assertDescription;
+import static org.hamcrest.AbstractMatcherTest.assertDoesNotMatch;
+import static org.hamcrest.AbstractMatcherTest.assertMatches;
+import static org.hamcrest.AbstractMatcherTest.assertMismatchDescription;
+import static org.hamcrest.AbstractMatcherTest.assertNullSafe;
+import static org.hamcrest.AbstractMatcherTest.assertUnknownTypeSafe;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.StringContains.containsString;
+import static org.hamcrest.xml.HasXPath.hasXPath;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+
+/**
+ * @author Joe Walnes
+ * @author Tom Denley
+ */
+public final class HasXPathTest {
+
+    private final Document xml = parse(""
+            + "<root type='food'>\n"
+            + "  <something id='a'><cheese>Edam</cheese></something>\n"
+            + "  <something id='b'><cheese>Cheddar</cheese></something>\n"
+            + "  <f:foreignSomething xmlns:f=\"http://cheese.com\" milk=\"camel\">Caravane</f:foreignSomething>\n"
+            + "  <emptySomething />\n"
+            + "  <f:emptySomething xmlns:f=\"http://cheese.com\" />"
+            + "</root>\n"
+            );
+
+    private final NamespaceContext ns = new NamespaceContext() {
+        @Override
+        public String getNamespaceURI(String prefix) {
+            return ("cheese".equals(prefix) ? "http://cheese.com" : null);
+        }
+
+        @Override
+        public String getPrefix(String namespaceURI) {
+            return ("http://cheese.com".equals(namespaceURI) ? "cheese" : null);
+        }
+
+        @Override
+        public Iterator<String> getPrefixes(String namespaceURI) {
+            HashSet<String> prefixes = new HashSet<String>();
+            String prefix = getPrefix(namespaceURI);
+            if (prefix != null) {
+                prefixes.add(prefix);
+            }
+            return prefixes.iterator();
+        }
+    };
+
+    @Test public void
+    copesWithNullsAndUnknownTypes() {
+        Matcher<Node> matcher = hasXPath("//irrelevant");
+        
+        assertNullSafe(matcher);
+        assertUnknownTypeSafe(matcher);
+    }
+
+    @Test public void
+    appliesMatcherToXPathInDocument() {
+        assertMatches(hasXPath("/root/something[2]/cheese", equalTo("Cheddar")), xml);
+        assertMatches(hasXPath("//something[1]/cheese", containsString("dam")), xml);
+        assertMatches(hasXPath("//something[2]/cheese", not(containsString("dam"))), xml);
+        assertMatches(hasXPath("/root/@type", equalTo("food")), xml);
+        assertMatches(hasXPath("//something[@id='b']/cheese", equalTo("Cheddar")), xml);
+        assertMatches(hasXPath("//something[@id='b']/cheese"), xml);
+    }
+
+    @Test public void
+    matchesEmptyElement() {
+        assertMatches(hasXPath("//emptySomething"), xml);
+    }
+
+    @Test public void
+    matchesEmptyElementInNamespace() {
+        assertMatches(hasXPath("//cheese:emptySomething", ns), xml);
+    }
+
+    @Test public void
+    failsIfNodeIsMissing() {
+        assertDoesNotMatch(hasXPath("/root/something[3]/cheese", ns, equalTo("Cheddar")), xml);
+        assertDoesNotMatch(hasXPath("//something[@id='c']/cheese", ns), xml);
+    }
+
+    @Test public void
+    failsIfNodeIsMissingInNamespace() {
+        assertDoesNotMatch(hasXPath("//cheese:foreignSomething", equalTo("Badger")), xml);
+        assertDoesNotMatch(hasXPath("//cheese:foreignSomething"), xml);
+    }
+
+    @Test public void
+    matchesWithNamespace() {
+        assertMatches(hasXPath("//cheese:foreignSomething", ns), xml);
+        assertMatches(hasXPath("//cheese:foreignSomething/@milk", ns, equalTo("camel")), xml);
+        assertMatches(hasXPath("//cheese:foreignSomething/text()", ns, equalTo("Caravane")), xml);
+    }
+
+    @Test public void
+    throwsIllegalArgumentExceptionIfGivenIllegalExpression() {
+        try {
+            hasXPath("\\g:dfgd::DSgf/root/something[2]/cheese", equalTo("blah"));
+            fail("Expected exception");
+        } catch (IllegalArgumentException expectedException) {
+            // expected exception
+        }
+    }
+
+    @Test public void
+    describesItself() {
+        assertDescription("an XML document with XPath /some/path \"Cheddar\"",
+                          hasXPath("/some/path", equalTo("Cheddar")));
+        
+        assertDescription("an XML document with XPath /some/path",
+                          hasXPath("/some/path"));
+    }
+
+    @Test public void
+    describesMissingNodeMismatch() {
+        assertMismatchDescription("xpath returned no results.", hasXPath("//honky"), xml);
+    }
+
+    @Test public void
+    describesIncorrectNodeValueMismatch() {
+        assertMismatchDescription("was \"Edam\"", hasXPath("//something[1]/cheese", equalTo("parmesan")), xml);
+    }
+
+    @Test public void
+    sharesCompiledExpressionsBetweenMatchers() {
+        hasXPath("/root/something[1]/@id", equalTo("a"));
+        final long compilations = XPathExpressions.compilationCount();
+
+        assertMatches(hasXPath("/root/something[1]/@id", equalTo("a")), xml);
+        assertDoesNotMatch(hasXPath("/root/something[1]/@id", equalTo("b")), xml);
+        assertEquals(compilations, XPathExpressions.compilationCount());
+    }
+
+    @Test public void
+    doesNotShareExpressionsCompiledWithANamespaceContext() {
+        hasXPath("//cheese:foreignSomething/@milk", ns, equalTo("camel"));
+        final long compilations = XPathExpressions.compilationCount();
+
+        assertMatches(hasXPath("//cheese:foreignSomething/@milk", ns, equalTo("camel")), xml);
+        assertEquals(compilations + 1, XPathExpressions.compilationCount());
+    }
+
+    @Test public void
+    canBeSharedBetweenThreads() throws Exception {
+        final Matcher<Node> matcher = hasXPath("/root/something[2]/cheese", equalTo("Cheddar"));
+        final int threads = 8;
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<String>> results = new ArrayList<Future<String>>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(new Callable<String>() {
+                    @Override public String call() throws Exception {
+                        final Document matching = parse("<root><something/><something><cheese>Cheddar</cheese></something></root>");
+                        final Document notMatching = parse("<root><something/><something><cheese>Brie</cheese></something></root>");
+                        start.await();
+                        for (int i = 0; i < 2000; i++) {
+                            if (!matcher.matches(matching)) {
+                                return "did not match on iteration " + i;
+                            }
+                            final StringDescription mismatch = new StringDescription();
+                            if (matcher.matches(notMatching)) {
+                                return "matched on iteration " + i;
+                            }
+                            matcher.describeMismatch(notMatching, mismatch);
+                            if (!"was \"Brie\"".equals(mismatch.toString())) {
+                                return "described mismatch as " + mismatch + " on iteration " + i;
+                            }
+                        }
+                        return "ok";
+                    }
+                }));
+            }
+            start.countDown();
+            for (Future<String> result : results) {
+                assertEquals("ok", result.get(60, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Document parse(String xml) {
+        try {
+            DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();
+            documentBuilderFactory.setNamespaceAware(true);
+            DocumentBuilder documentBuilder = documentBuilderFactory.newDocumentBuilder();
+            return documentBuilder.parse(new ByteArrayInputStream(xml.getBytes()));
+        }
+        catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -46,8 +46,7 @@ public interface Description {
     Description appendList(String start, String separator, String end,
                            Iterable<? extends SelfDescribing> values);
 
-
-    public static final class NullDescription implements Description {
+    public static final class NullDescription implements SelectiveDescription {
       @Override
       public Description appendDescriptionOf(SelfDescribing value) {
         return this;
@@ -81,6 +80,11 @@ public interface Description {
         return this;
       }
 
+      @Override
+      public boolean isEnabled() {
+        return false;
+      }
+
       @Override
         public String toString() {
           return "";
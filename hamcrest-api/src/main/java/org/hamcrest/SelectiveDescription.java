@@ -0,0 +1,13 @@
+package org.hamcrest;
+
+/**
+ * A {@link Description} that may discard what is appended to it, and can say so, so
+ * that matchers can skip building text that nobody will read. Matchers check for it
+ * with <code>instanceof</code>; any other description is taken to keep everything.
+ */
+public interface SelectiveDescription extends Description {
+    /**
+     * @return false if everything appended to this description from now on is discarded
+     */
+    boolean isEnabled();
+}
@@ -1,6 +1,7 @@
 package org.hamcrest;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
 import org.hamcrest.Description.NullDescription;
 import org.junit.Test;
@@ -15,4 +16,10 @@ public final class NullDescriptionTest {
         assertEquals("", nullDescription.toString());
     }
 
+    @Test public void
+    isNotEnabled() {
+        assertFalse(nullDescription.isEnabled());
+        assertFalse(((SelectiveDescription) Description.NONE).isEnabled());
+    }
+
 }
@@ -0,0 +1,112 @@
+package org.hamcrest.benchmarks;
+
+import static org.hamcrest.benchmarks.CoreMatchersBenchmark.integers;
+import static org.hamcrest.benchmarks.CoreMatchersBenchmark.untyped;
+import static org.hamcrest.benchmarks.Descriptions.descriptionOf;
+import static org.hamcrest.benchmarks.Descriptions.mismatchOf;
+import static org.hamcrest.collection.IsArrayContainingInAnyOrder.arrayContainingInAnyOrder;
+import static org.hamcrest.collection.IsIn.oneOf;
+import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInAnyOrder;
+import static org.hamcrest.core.IsCollectionContaining.hasItems;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Matchers that pair every examined item with one of many expected items:
+ * <code>containsInAnyOrder</code>, <code>arrayContainingInAnyOrder</code>, <code>hasItems</code>
+ * and <code>oneOf</code>. The number of expected items grows with <code>size</code>, so a
+ * naive implementation is quadratic; sizes beyond 100000 would not finish in a reasonable
+ * time and are left to {@link IterableMatchersBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class AnyOrderMatchersBenchmark {
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    private List<Integer> items;
+    private Integer[] reversedArray;
+    private List<Integer> itemsWithMissing;
+    private Integer lastItem;
+
+    private Matcher<Object> containsInAnyOrderMatcher;
+    private Matcher<Object> arrayContainingInAnyOrderMatcher;
+    private Matcher<Object> hasItemsMatcher;
+    private Matcher<Object> oneOfMatcher;
+
+    @Setup
+    public void setUp() {
+        items = Arrays.asList(integers(size, 0));
+        reversedArray = integers(size, 0);
+        Collections.reverse(Arrays.asList(reversedArray));
+        Integer[] withMissing = integers(size, 0);
+        withMissing[size - 1] = -1;
+        itemsWithMissing = Arrays.asList(withMissing);
+        lastItem = size - 1;
+
+        containsInAnyOrderMatcher = untyped(containsInAnyOrder(reversedArray));
+        arrayContainingInAnyOrderMatcher = untyped(arrayContainingInAnyOrder(integers(size, 0)));
+        hasItemsMatcher = untyped(hasItems(reversedArray));
+        oneOfMatcher = untyped(oneOf(integers(size, 0)));
+    }
+
+    @Benchmark
+    public boolean containsInAnyOrderMatches() {
+        return containsInAnyOrderMatcher.matches(items);
+    }
+
+    @Benchmark
+    public String containsInAnyOrderDescribeMismatch() {
+        return mismatchOf(containsInAnyOrderMatcher, itemsWithMissing);
+    }
+
+    @Benchmark
+    public String containsInAnyOrderDescribeTo() {
+        return descriptionOf(containsInAnyOrderMatcher);
+    }
+
+    @Benchmark
+    public boolean arrayContainingInAnyOrderMatches() {
+        return arrayContainingInAnyOrderMatcher.matches(reversedArray);
+    }
+
+    @Benchmark
+    public boolean hasItemsMatches() {
+        return hasItemsMatcher.matches(items);
+    }
+
+    @Benchmark
+    public String hasItemsDescribeMismatch() {
+        return mismatchOf(hasItemsMatcher, itemsWithMissing);
+    }
+
+    @Benchmark
+    public boolean oneOfMatchesLast() {
+        return oneOfMatcher.matches(lastItem);
+    }
+
+    @Benchmark
+    public boolean oneOfMismatches() {
+        return oneOfMatcher.matches(-1);
+    }
+}
@@ -0,0 +1,149 @@
+package org.hamcrest.benchmarks;
+
+import static org.hamcrest.beans.HasProperty.hasProperty;
+import static org.hamcrest.beans.HasPropertyWithValue.hasProperty;
+import static org.hamcrest.beans.SamePropertyValuesAs.samePropertyValuesAs;
+import static org.hamcrest.benchmarks.CoreMatchersBenchmark.untyped;
+import static org.hamcrest.benchmarks.Descriptions.descriptionOf;
+import static org.hamcrest.benchmarks.Descriptions.mismatchOf;
+import static org.hamcrest.core.IsCollectionContaining.hasItem;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Matchers in <code>org.hamcrest.beans</code>, which introspect and reflectively read
+ * the examined bean, and the cost of constructing them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class BeanMatchersBenchmark {
+    private Order order;
+    private Order otherOrder;
+
+    private Matcher<Object> hasSkuProperty;
+    private Matcher<Object> hasSkuValue;
+    private Matcher<Object> samePropertyValues;
+    private Basket basket;
+    private Matcher<Object> hasNestedSkuValue;
+    private Matcher<Object> nestedHasSkuValue;
+
+    @Setup
+    public void setUp() {
+        order = new Order("ABC-123", 3, 9.99, "GBP", true);
+        otherOrder = new Order("ABC-123", 3, 9.99, "EUR", true);
+
+        hasSkuProperty = untyped(hasProperty("sku"));
+        hasSkuValue = untyped(hasProperty("sku", equalTo("ABC-123")));
+        samePropertyValues = untyped(samePropertyValuesAs(order));
+
+        basket = new Basket(Arrays.asList(otherOrder, order));
+        hasNestedSkuValue = untyped(hasProperty("orders[1].sku", equalTo("ABC-123")));
+        nestedHasSkuValue = untyped(hasProperty("orders", hasItem(hasProperty("sku", equalTo("ABC-123")))));
+    }
+
+    @Benchmark
+    public boolean hasPropertyMatches() {
+        return hasSkuProperty.matches(order);
+    }
+
+    @Benchmark
+    public boolean hasPropertyWithValueMatches() {
+        return hasSkuValue.matches(order);
+    }
+
+    @Benchmark
+    public String hasPropertyWithValueDescribeMismatch() {
+        return mismatchOf(untyped(hasProperty("currency", equalTo("GBP"))), otherOrder);
+    }
+
+    @Benchmark
+    public String hasPropertyWithValueDescribeTo() {
+        return descriptionOf(hasSkuValue);
+    }
+
+    @Benchmark
+    public Object hasPropertyWithValueConstruction() {
+        return hasProperty("sku", equalTo("ABC-123"));
+    }
+
+    @Benchmark
+    public boolean hasPropertyPathMatches() {
+        return hasNestedSkuValue.matches(basket);
+    }
+
+    @Benchmark
+    public boolean nestedHasPropertyMatches() {
+        return nestedHasSkuValue.matches(basket);
+    }
+
+    @Benchmark
+    public boolean samePropertyValuesAsMatches() {
+        return samePropertyValues.matches(new Order("ABC-123", 3, 9.99, "GBP", true));
+    }
+
+    @Benchmark
+    public String samePropertyValuesAsDescribeMismatch() {
+        return mismatchOf(samePropertyValues, otherOrder);
+    }
+
+    @Benchmark
+    public String samePropertyValuesAsDescribeTo() {
+        return descriptionOf(samePropertyValues);
+    }
+
+    @Benchmark
+    public Object samePropertyValuesAsConstruction() {
+        return samePropertyValuesAs(order);
+    }
+
+    public static class Basket {
+        private final List<Order> orders;
+
+        public Basket(List<Order> orders) {
+            this.orders = orders;
+        }
+
+        public List<Order> getOrders() { return orders; }
+    }
+
+    public static class Order {
+        private final String sku;
+        private final int quantity;
+        private final double price;
+        private final String currency;
+        private final boolean paid;
+
+        public Order(String sku, int quantity, double price, String currency, boolean paid) {
+            this.sku = sku;
+            this.quantity = quantity;
+            this.price = price;
+            this.currency = currency;
+            this.paid = paid;
+        }
+
+        public String getSku() { return sku; }
+        public int getQuantity() { return quantity; }
+        public double getPrice() { return price; }
+        public String getCurrency() { return currency; }
+        public boolean isPaid() { return paid; }
+    }
+}
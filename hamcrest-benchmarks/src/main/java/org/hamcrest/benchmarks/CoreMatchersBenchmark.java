@@ -0,0 +1,146 @@
+package org.hamcrest.benchmarks;
+
+import static org.hamcrest.benchmarks.Descriptions.descriptionOf;
+import static org.hamcrest.benchmarks.Descriptions.mismatchOf;
+import static org.hamcrest.core.AllOf.allOf;
+import static org.hamcrest.core.AnyOf.anyOf;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.hamcrest.core.IsNull.notNullValue;
+import static org.hamcrest.core.StringContains.containsString;
+import static org.hamcrest.core.StringEndsWith.endsWith;
+import static org.hamcrest.core.StringStartsWith.startsWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Hot paths of the combining and equality matchers in <code>org.hamcrest.core</code>.
+ * <code>width</code> is the number of alternatives under <code>anyOf</code>, and the
+ * number of elements in the arrays compared by <code>equalTo</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class CoreMatchersBenchmark {
+    @Param({"10", "1000", "100000"})
+    public int width;
+
+    private Matcher<Object> allOfMatcher;
+    private Matcher<Object> anyOfMatcher;
+    private Matcher<Object> equalToString;
+    private Matcher<Object> equalToArray;
+
+    private String matchingString;
+    private String mismatchingString;
+    private String lastAlternative;
+    private Integer[] matchingArray;
+    private Integer[] mismatchingArray;
+
+    @Setup
+    public void setUp() {
+        matchingString = "hamcrest matchers at speed";
+        mismatchingString = "hamcrest matchers at rest";
+        allOfMatcher = untyped(allOf(notNullValue(), instanceOf(String.class),
+                                      startsWith("ham"), containsString("matchers"), endsWith("speed")));
+
+        List<Matcher<? super Object>> alternatives = new ArrayList<Matcher<? super Object>>(width);
+        for (int i = 0; i < width; i++) {
+            alternatives.add(equalTo((Object) ("value-" + i)));
+        }
+        anyOfMatcher = untyped(anyOf(alternatives));
+        lastAlternative = "value-" + (width - 1);
+
+        equalToString = untyped(equalTo(matchingString));
+
+        matchingArray = integers(width, 0);
+        mismatchingArray = integers(width, 0);
+        mismatchingArray[width - 1] = -1;
+        equalToArray = untyped(equalTo(integers(width, 0)));
+    }
+
+    @Benchmark
+    public boolean allOfMatches() {
+        return allOfMatcher.matches(matchingString);
+    }
+
+    @Benchmark
+    public String allOfDescribeMismatch() {
+        return mismatchOf(allOfMatcher, mismatchingString);
+    }
+
+    @Benchmark
+    public String allOfDescribeTo() {
+        return descriptionOf(allOfMatcher);
+    }
+
+    @Benchmark
+    public boolean anyOfMatchesLastAlternative() {
+        return anyOfMatcher.matches(lastAlternative);
+    }
+
+    @Benchmark
+    public boolean anyOfMismatches() {
+        return anyOfMatcher.matches(mismatchingString);
+    }
+
+    @Benchmark
+    public String anyOfDescribeMismatch() {
+        return mismatchOf(anyOfMatcher, mismatchingString);
+    }
+
+    @Benchmark
+    public String anyOfDescribeTo() {
+        return descriptionOf(anyOfMatcher);
+    }
+
+    @Benchmark
+    public boolean isEqualMatchesString() {
+        return equalToString.matches(matchingString);
+    }
+
+    @Benchmark
+    public boolean isEqualMatchesArray() {
+        return equalToArray.matches(matchingArray);
+    }
+
+    @Benchmark
+    public String isEqualDescribeMismatchArray() {
+        return mismatchOf(equalToArray, mismatchingArray);
+    }
+
+    @Benchmark
+    public String isEqualDescribeToArray() {
+        return descriptionOf(equalToArray);
+    }
+
+    static Integer[] integers(int size, int offset) {
+        Integer[] result = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = offset + i;
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    static Matcher<Object> untyped(Matcher<?> matcher) {
+        return (Matcher<Object>) matcher;
+    }
+}
@@ -0,0 +1,71 @@
+package org.hamcrest.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+
+import org.hamcrest.BoundedDescription;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.SelfDescribing;
+import org.hamcrest.StreamingDescription;
+import org.hamcrest.StringDescription;
+import org.hamcrest.StructuredDescription;
+
+/**
+ * Renders descriptions the same way {@link org.hamcrest.MatcherAssert} does, so that
+ * the <code>describeTo</code> and <code>describeMismatch</code> benchmarks measure the
+ * cost a failing assertion actually pays.
+ */
+final class Descriptions {
+    private static final StreamingDescription DISCARDED = new StreamingDescription(new WritableByteChannel() {
+        @Override public int write(ByteBuffer src) {
+            final int written = src.remaining();
+            src.position(src.limit());
+            return written;
+        }
+
+        @Override public boolean isOpen() {
+            return true;
+        }
+
+        @Override public void close() { }
+    }, Charset.forName("UTF-8"));
+
+    private Descriptions() { }
+
+    static String descriptionOf(SelfDescribing selfDescribing) {
+        return StringDescription.toString(selfDescribing);
+    }
+
+    static String mismatchOf(Matcher<?> matcher, Object item) {
+        Description description = new StringDescription();
+        matcher.describeMismatch(item, description);
+        return description.toString();
+    }
+
+    /**
+     * Encodes the mismatch and writes it to a channel that discards it. Benchmarks using
+     * this must run in one thread.
+     */
+    static StreamingDescription streamedMismatchOf(Matcher<?> matcher, Object item) {
+        matcher.describeMismatch(item, DISCARDED);
+        DISCARDED.flush();
+        return DISCARDED;
+    }
+
+    /**
+     * Records the mismatch without rendering it.
+     */
+    static StructuredDescription structuredMismatchOf(Matcher<?> matcher, Object item) {
+        StructuredDescription description = new StructuredDescription();
+        matcher.describeMismatch(item, description);
+        return description;
+    }
+
+    static String boundedMismatchOf(Matcher<?> matcher, Object item) {
+        Description description = new BoundedDescription();
+        matcher.describeMismatch(item, description);
+        return description.toString();
+    }
+}
@@ -0,0 +1,201 @@
+package org.hamcrest.benchmarks;
+
+import static org.hamcrest.benchmarks.CoreMatchersBenchmark.integers;
+import static org.hamcrest.benchmarks.CoreMatchersBenchmark.untyped;
+import static org.hamcrest.benchmarks.Descriptions.boundedMismatchOf;
+import static org.hamcrest.benchmarks.Descriptions.descriptionOf;
+import static org.hamcrest.benchmarks.Descriptions.mismatchOf;
+import static org.hamcrest.collection.IsArrayContaining.hasItemInArray;
+import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
+import static org.hamcrest.collection.IsIn.in;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.hamcrest.collection.IsIterableWithSize.iterableWithSize;
+import static org.hamcrest.collection.IsMapContaining.hasEntry;
+import static org.hamcrest.core.Every.everyItem;
+import static org.hamcrest.core.Every.everyItemInParallel;
+import static org.hamcrest.core.IsCollectionContaining.hasItem;
+import static org.hamcrest.core.IsNull.notNullValue;
+import static org.hamcrest.number.OrderingComparison.greaterThanOrEqualTo;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Matchers that make a linear pass over the examined collection: <code>hasItem</code>,
+ * <code>everyItem</code> and the single-pass matchers in <code>org.hamcrest.collection</code>.
+ * Each matching benchmark is arranged so that the whole collection is traversed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class IterableMatchersBenchmark {
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    private List<Integer> items;
+    private List<Integer> itemsWithNull;
+    private Integer[] array;
+    private Map<Integer, Integer> map;
+    private Integer lastItem;
+    private Integer missingItem;
+
+    private Matcher<Object> hasLastItem;
+    private Matcher<Object> hasMissingItem;
+    private Matcher<Object> everyItemNotNull;
+    private Matcher<Object> everyItemNonNegative;
+    private Matcher<Object> everyItemNonNegativeInParallel;
+    private Matcher<Object> everyItemNotNullInParallel;
+    private Matcher<Object> containsInOrder;
+    private Matcher<Object> hasExpectedSize;
+    private Matcher<Object> iterableWithExpectedSize;
+    private Matcher<Object> hasLastItemInArray;
+    private Matcher<Object> hasLastEntry;
+    private Matcher<Object> inItems;
+
+    @Setup
+    public void setUp() {
+        array = integers(size, 0);
+        items = Arrays.asList(array);
+        Integer[] withNull = integers(size, 0);
+        withNull[size - 1] = null;
+        itemsWithNull = Arrays.asList(withNull);
+        map = new HashMap<Integer, Integer>(size * 2);
+        for (Integer item : items) {
+            map.put(item, item);
+        }
+        lastItem = size - 1;
+        missingItem = -1;
+
+        hasLastItem = untyped(hasItem(lastItem));
+        hasMissingItem = untyped(hasItem(missingItem));
+        everyItemNotNull = untyped(everyItem(notNullValue()));
+        everyItemNonNegative = untyped(everyItem(greaterThanOrEqualTo(0)));
+        everyItemNonNegativeInParallel = untyped(everyItemInParallel(greaterThanOrEqualTo(0)));
+        everyItemNotNullInParallel = untyped(everyItemInParallel(notNullValue()));
+        containsInOrder = untyped(contains(integers(size, 0)));
+        hasExpectedSize = untyped(hasSize(size));
+        iterableWithExpectedSize = untyped(iterableWithSize(size));
+        hasLastItemInArray = untyped(hasItemInArray(lastItem));
+        hasLastEntry = untyped(hasEntry(lastItem, lastItem));
+        inItems = untyped(in(items));
+    }
+
+    @Benchmark
+    public boolean hasItemMatchesLast() {
+        return hasLastItem.matches(items);
+    }
+
+    @Benchmark
+    public String hasItemDescribeMismatch() {
+        return mismatchOf(hasMissingItem, items);
+    }
+
+    @Benchmark
+    public String hasItemDescribeMismatchBounded() {
+        return boundedMismatchOf(hasMissingItem, items);
+    }
+
+    @Benchmark
+    public String hasItemDescribeTo() {
+        return descriptionOf(hasLastItem);
+    }
+
+    @Benchmark
+    public boolean everyItemMatches() {
+        return everyItemNonNegative.matches(items);
+    }
+
+    @Benchmark
+    public String everyItemDescribeMismatch() {
+        return mismatchOf(everyItemNotNull, itemsWithNull);
+    }
+
+    @Benchmark
+    public boolean everyItemInParallelMatches() {
+        return everyItemNonNegativeInParallel.matches(items);
+    }
+
+    @Benchmark
+    public String everyItemInParallelDescribeMismatch() {
+        return mismatchOf(everyItemNotNullInParallel, itemsWithNull);
+    }
+
+    @Benchmark
+    public String everyItemDescribeTo() {
+        return descriptionOf(everyItemNonNegative);
+    }
+
+    @Benchmark
+    public boolean containsMatches() {
+        return containsInOrder.matches(items);
+    }
+
+    @Benchmark
+    public String containsDescribeMismatch() {
+        return mismatchOf(containsInOrder, itemsWithNull);
+    }
+
+    @Benchmark
+    public String containsDescribeTo() {
+        return descriptionOf(containsInOrder);
+    }
+
+    @Benchmark
+    public boolean hasSizeMatches() {
+        return hasExpectedSize.matches(items);
+    }
+
+    @Benchmark
+    public boolean iterableWithSizeMatches() {
+        return iterableWithExpectedSize.matches(items);
+    }
+
+    @Benchmark
+    public boolean hasItemInArrayMatchesLast() {
+        return hasLastItemInArray.matches(array);
+    }
+
+    @Benchmark
+    public boolean hasEntryMatches() {
+        return hasLastEntry.matches(map);
+    }
+
+    @Benchmark
+    public String hasEntryDescribeMismatch() {
+        return mismatchOf(untyped(hasEntry(missingItem, missingItem)), map);
+    }
+
+    @Benchmark
+    public String hasEntryDescribeMismatchBounded() {
+        return boundedMismatchOf(untyped(hasEntry(missingItem, missingItem)), map);
+    }
+
+    @Benchmark
+    public boolean inMatchesLast() {
+        return inItems.matches(lastItem);
+    }
+
+    @Benchmark
+    public String inDescribeTo() {
+        return descriptionOf(inItems);
+    }
+}
@@ -0,0 +1,70 @@
+package org.hamcrest.benchmarks;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.MatcherAssert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The cost of a failing <code>assertThat</code> that is caught, with and without a stack trace,
+ * with and without its message being rendered.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class MatcherAssertBenchmark {
+    @Param({"false", "true"})
+    public boolean stackless;
+
+    private final String actual = "actual";
+
+    @Benchmark
+    public Object passingAssertion() {
+        check(actual, equalTo("actual"));
+        return actual;
+    }
+
+    @Benchmark
+    public Object failingAssertion() {
+        try {
+            check(actual, equalTo("expected"));
+            return null;
+        } catch (AssertionError e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public String failingAssertionMessage() {
+        try {
+            check(actual, equalTo("expected"));
+            return null;
+        } catch (AssertionError e) {
+            return e.getMessage();
+        }
+    }
+
+    private <T> void check(T value, Matcher<? super T> matcher) {
+        if (stackless) {
+            MatcherAssert.stackless().assertThat(value, matcher);
+        } else {
+            assertThat(value, matcher);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package org.hamcrest.benchmarks;
+
+import static org.hamcrest.benchmarks.CoreMatchersBenchmark.untyped;
+import static org.hamcrest.core.AnyOf.anyOf;
+import static org.hamcrest.core.CombinableMatcher.both;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsAnything.anything;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.StringContains.containsString;
+import static org.hamcrest.core.StringEndsWith.endsWith;
+import static org.hamcrest.core.StringStartsWith.startsWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.core.MatcherOptimizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Matcher trees written with the usual sugar, evaluated as written and after
+ * {@link MatcherOptimizer#optimize(Matcher)}. <code>width</code> is the number of
+ * <code>equalTo</code> alternatives under <code>anyOf</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class MatcherOptimizerBenchmark {
+    @Param({"4", "26", "1000"})
+    public int width;
+
+    private Matcher<Object> alternatives;
+    private Matcher<Object> optimizedAlternatives;
+    private Matcher<Object> wrapped;
+    private Matcher<Object> optimizedWrapped;
+    private Matcher<Object> chain;
+    private Matcher<Object> optimizedChain;
+
+    private String lastAlternative;
+    private String text;
+
+    @Setup
+    public void setUp() {
+        final List<Matcher<? super Object>> equalities = new ArrayList<Matcher<? super Object>>(width);
+        for (int i = 0; i < width; i++) {
+            equalities.add(equalTo((Object) ("value-" + i)));
+        }
+        alternatives = untyped(anyOf(equalities));
+        lastAlternative = "value-" + (width - 1);
+
+        text = "hamcrest matchers at speed";
+        wrapped = untyped(is(is(not(not(startsWith("ham"))))));
+        chain = untyped(is(both(startsWith("ham")).and(containsString("matchers")).and(endsWith("speed")).and(anything())));
+
+        optimizedAlternatives = MatcherOptimizer.optimize(alternatives);
+        optimizedWrapped = MatcherOptimizer.optimize(wrapped);
+        optimizedChain = MatcherOptimizer.optimize(chain);
+    }
+
+    @Benchmark
+    public boolean anyOfEqualToAsWritten() {
+        return alternatives.matches(lastAlternative);
+    }
+
+    @Benchmark
+    public boolean anyOfEqualToOptimized() {
+        return optimizedAlternatives.matches(lastAlternative);
+    }
+
+    @Benchmark
+    public boolean wrappersAsWritten() {
+        return wrapped.matches(text);
+    }
+
+    @Benchmark
+    public boolean wrappersOptimized() {
+        return optimizedWrapped.matches(text);
+    }
+
+    @Benchmark
+    public boolean combinableChainAsWritten() {
+        return chain.matches(text);
+    }
+
+    @Benchmark
+    public boolean combinableChainOptimized() {
+        return optimizedChain.matches(text);
+    }
+
+    @Benchmark
+    public Matcher<Object> optimizeAnyOfEqualTo() {
+        return MatcherOptimizer.optimize(alternatives);
+    }
+}
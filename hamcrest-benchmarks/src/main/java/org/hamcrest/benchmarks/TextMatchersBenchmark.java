@@ -0,0 +1,151 @@
+package org.hamcrest.benchmarks;
+
+import static org.hamcrest.benchmarks.CoreMatchersBenchmark.untyped;
+import static org.hamcrest.benchmarks.Descriptions.descriptionOf;
+import static org.hamcrest.benchmarks.Descriptions.mismatchOf;
+import static org.hamcrest.benchmarks.Descriptions.streamedMismatchOf;
+import static org.hamcrest.benchmarks.Descriptions.structuredMismatchOf;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.StringContains.containsString;
+import static org.hamcrest.text.IsBlankString.blankString;
+import static org.hamcrest.text.IsEqualIgnoringCase.equalToIgnoringCase;
+import static org.hamcrest.text.IsEqualIgnoringWhiteSpace.equalToIgnoringWhiteSpace;
+import static org.hamcrest.text.StringContainsInOrder.stringContainsInOrder;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Matchers in <code>org.hamcrest.text</code>, plus <code>equalTo</code> on strings, whose
+ * mismatch descriptions escape the whole examined value. <code>size</code> is the length
+ * of the examined string in characters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TextMatchersBenchmark {
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    private String text;
+    private String upperCaseText;
+    private String respacedText;
+    private String blank;
+    private String otherText;
+
+    private Matcher<Object> equalToText;
+    private Matcher<Object> equalToTextIgnoringCase;
+    private Matcher<Object> equalToTextIgnoringWhiteSpace;
+    private Matcher<Object> isBlank;
+    private Matcher<Object> containsInOrder;
+    private Matcher<Object> containsTail;
+
+    @Setup
+    public void setUp() {
+        text = text(size, "lorem ipsum\t\"dolor\"\n");
+        upperCaseText = text.toUpperCase();
+        respacedText = text.replace(" ", "   ");
+        blank = text(size, " \t\n");
+        otherText = text(size, "sit amet, consectetur ");
+
+        equalToText = untyped(equalTo(text));
+        equalToTextIgnoringCase = untyped(equalToIgnoringCase(text));
+        equalToTextIgnoringWhiteSpace = untyped(equalToIgnoringWhiteSpace(text));
+        isBlank = untyped(blankString());
+        containsInOrder = untyped(stringContainsInOrder("lorem", "ipsum", "dolor", text.substring(size - 3)));
+        containsTail = untyped(containsString(text.substring(size - 5)));
+    }
+
+    @Benchmark
+    public boolean equalToMatches() {
+        return equalToText.matches(new String(text));
+    }
+
+    @Benchmark
+    public String equalToDescribeMismatch() {
+        return mismatchOf(equalToText, otherText);
+    }
+
+    @Benchmark
+    public Object equalToDescribeMismatchStreamed() {
+        return streamedMismatchOf(equalToText, otherText);
+    }
+
+    @Benchmark
+    public Object equalToDescribeMismatchStructured() {
+        return structuredMismatchOf(equalToText, otherText);
+    }
+
+    @Benchmark
+    public String equalToDescribeMismatchStructuredAsJson() {
+        return structuredMismatchOf(equalToText, otherText).toJson();
+    }
+
+    @Benchmark
+    public String equalToDescribeTo() {
+        return descriptionOf(equalToText);
+    }
+
+    @Benchmark
+    public boolean equalToIgnoringCaseMatches() {
+        return equalToTextIgnoringCase.matches(upperCaseText);
+    }
+
+    @Benchmark
+    public String equalToIgnoringCaseDescribeMismatch() {
+        return mismatchOf(equalToTextIgnoringCase, otherText);
+    }
+
+    @Benchmark
+    public boolean equalToIgnoringWhiteSpaceMatches() {
+        return equalToTextIgnoringWhiteSpace.matches(respacedText);
+    }
+
+    @Benchmark
+    public String equalToIgnoringWhiteSpaceDescribeMismatch() {
+        return mismatchOf(equalToTextIgnoringWhiteSpace, otherText);
+    }
+
+    @Benchmark
+    public boolean blankStringMatches() {
+        return isBlank.matches(blank);
+    }
+
+    @Benchmark
+    public boolean stringContainsInOrderMatches() {
+        return containsInOrder.matches(text);
+    }
+
+    @Benchmark
+    public boolean containsStringMatches() {
+        return containsTail.matches(text);
+    }
+
+    @Benchmark
+    public String containsStringDescribeMismatch() {
+        return mismatchOf(containsTail, otherText);
+    }
+
+    private static String text(int length, String pattern) {
+        StringBuilder result = new StringBuilder(length);
+        while (result.length() < length) {
+            result.append(pattern.charAt(result.length() % pattern.length()));
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,75 @@
+package org.hamcrest.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hamcrest.BoundedDescription;
+import org.hamcrest.StringDescription;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Describing values with the built in formatters, in full and within the default limits
+ * of a bounded description. <code>size</code> is the number of elements in each value.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ValueFormattersBenchmark {
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    private int[] ints;
+    private byte[] bytes;
+    private List<Integer> list;
+
+    @Setup
+    public void setUp() {
+        ints = new int[size];
+        bytes = new byte[size];
+        list = new ArrayList<Integer>(size);
+        for (int i = 0; i < size; i++) {
+            ints[i] = i;
+            bytes[i] = (byte) i;
+            list.add(i);
+        }
+    }
+
+    @Benchmark
+    public String intArray() {
+        return new StringDescription().appendValue(ints).toString();
+    }
+
+    @Benchmark
+    public String intArrayBounded() {
+        return new BoundedDescription().appendValue(ints).toString();
+    }
+
+    @Benchmark
+    public String byteArray() {
+        return new StringDescription().appendValue(bytes).toString();
+    }
+
+    @Benchmark
+    public String collection() {
+        return new StringDescription().appendValue(list).toString();
+    }
+
+    @Benchmark
+    public String collectionBounded() {
+        return new BoundedDescription().appendValue(list).toString();
+    }
+}
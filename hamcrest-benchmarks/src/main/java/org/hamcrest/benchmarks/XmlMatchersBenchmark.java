@@ -0,0 +1,167 @@
+package org.hamcrest.benchmarks;
+
+import static org.hamcrest.benchmarks.Descriptions.descriptionOf;
+import static org.hamcrest.benchmarks.Descriptions.mismatchOf;
+import static org.hamcrest.core.AllOf.allOf;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.xml.HasAllXPaths.hasAllXPaths;
+import static org.hamcrest.xml.HasStreamedXPath.hasXPathInStream;
+import static org.hamcrest.xml.HasXPath.hasXPath;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+/**
+ * <code>hasXPath</code> over a DOM with <code>size</code> sibling elements. Sizes stop at
+ * one million elements, beyond which the DOM itself no longer fits in the benchmark heap.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class XmlMatchersBenchmark {
+    @Param({"10", "1000", "100000", "1000000"})
+    public int size;
+
+    private Node document;
+    private Matcher<Node> lastLineSku;
+    private Matcher<Node> lastLineExists;
+    private Matcher<Node> missingLine;
+    private byte[] xml;
+    private Matcher<Node> allOfLines;
+    private Matcher<Node> hasAllLines;
+    private Matcher<InputStream> streamedLastLineSku;
+    private Matcher<InputStream> streamedFirstLineSku;
+
+    @Setup
+    public void setUp() throws ParserConfigurationException {
+        document = document(size);
+        lastLineSku = hasXPath("/order/line[" + size + "]/@sku", equalTo("sku-" + (size - 1)));
+        lastLineExists = hasXPath("/order/line[@sku='sku-" + (size - 1) + "']");
+        missingLine = hasXPath("/order/line[" + (size + 1) + "]/@sku", equalTo("sku-" + size));
+        xml = xml(size);
+        final List<Matcher<? super Node>> lines = new ArrayList<Matcher<? super Node>>();
+        for (int i = 1; i <= Math.min(size, 50); i++) {
+            lines.add(hasXPath("/order/line[" + (size + 1 - i) + "]/@sku", equalTo("sku-" + (size - i))));
+        }
+        allOfLines = allOf(lines);
+        hasAllLines = hasAllXPaths(lines);
+        streamedLastLineSku = hasXPathInStream("/order/line[" + size + "]/@sku", equalTo("sku-" + (size - 1)));
+        streamedFirstLineSku = hasXPathInStream("/order/line[1]/@sku", equalTo("sku-0"));
+    }
+
+    @Benchmark
+    public boolean hasXPathWithValueMatches() {
+        return lastLineSku.matches(document);
+    }
+
+    @Benchmark
+    public boolean hasXPathNodeMatches() {
+        return lastLineExists.matches(document);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean hasXPathSharedBetweenThreads(ThreadDocument thread) {
+        return lastLineSku.matches(thread.document);
+    }
+
+    @Benchmark
+    public boolean hasXPathInStreamMatchesLastLine() {
+        return streamedLastLineSku.matches(new ByteArrayInputStream(xml));
+    }
+
+    @Benchmark
+    public boolean hasXPathInStreamMatchesFirstLine() {
+        return streamedFirstLineSku.matches(new ByteArrayInputStream(xml));
+    }
+
+    @Benchmark
+    public boolean allOfManyXPathsMatches() {
+        return allOfLines.matches(document);
+    }
+
+    @Benchmark
+    public boolean hasAllXPathsMatches() {
+        return hasAllLines.matches(document);
+    }
+
+    @Benchmark
+    public String hasXPathDescribeMismatch() {
+        return mismatchOf(missingLine, document);
+    }
+
+    @Benchmark
+    public String hasXPathDescribeTo() {
+        return descriptionOf(lastLineSku);
+    }
+
+    @Benchmark
+    public Object hasXPathConstruction() {
+        return hasXPath("/order/line[1]/@sku", equalTo("sku-0"));
+    }
+
+    private static Document document(int lines) throws ParserConfigurationException {
+        Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+        Element order = document.createElement("order");
+        document.appendChild(order);
+        for (int i = 0; i < lines; i++) {
+            Element line = document.createElement("line");
+            line.setAttribute("sku", "sku-" + i);
+            line.setTextContent("line " + i);
+            order.appendChild(line);
+        }
+        return document;
+    }
+
+    private static byte[] xml(int lines) {
+        final StringBuilder xml = new StringBuilder("<order>");
+        for (int i = 0; i < lines; i++) {
+            xml.append("<line sku='sku-").append(i).append("'>line ").append(i).append("</line>");
+        }
+        try {
+            return xml.append("</order>").toString().getBytes("UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * A DOM is not safe for concurrent reads, so each benchmark thread has its own.
+     */
+    @State(Scope.Thread)
+    public static class ThreadDocument {
+        Node document;
+
+        @Setup
+        public void setUp(XmlMatchersBenchmark benchmark) throws ParserConfigurationException {
+            document = document(benchmark.size);
+        }
+    }
+}
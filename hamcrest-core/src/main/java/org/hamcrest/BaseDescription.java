@@ -47,12 +47,22 @@ public abstract class BaseDescription implements Description {
             append('<');
             append(descriptionOf(value));
             append("F>");
-        } else if (value.getClass().isArray()) {
-            appendValueList("[",", ","]", new ArrayIterator(value));
-        } else {
+        } else if (value instanceof Integer || value instanceof Double
+                   || value instanceof Boolean || value instanceof Byte) {
             append('<');
             append(descriptionOf(value));
             append('>');
+        } else {
+            final ValueFormatter<Object> formatter = ValueFormatters.formatterFor(value.getClass());
+            if (formatter != null) {
+                formatter.describeValue(value, this);
+            } else if (value.getClass().isArray()) {
+                appendValueList("[",", ","]", new ArrayIterator(value));
+            } else {
+                append('<');
+                append(descriptionOf(value));
+                append('>');
+            }
         }
         return this;
     }
@@ -110,35 +120,71 @@ public abstract class BaseDescription implements Description {
         }
     }
     
+    /**
+     * Append the characters of <var>str</var> from <var>start</var> up to, but not
+     * including, <var>end</var> to the description.
+     * The default implementation passes a whole string to {@link #append(String)}, and
+     * otherwise every character to {@link #append(char)}.
+     * Override in subclasses to provide an efficient implementation.
+     */
+    protected void append(String str, int start, int end) {
+        if (start == 0 && end == str.length()) {
+            append(str);
+            return;
+        }
+        for (int i = start; i < end; i++) {
+            append(str.charAt(i));
+        }
+    }
+
     /**
      * Append the char <var>c</var> to the description.  
      */
     protected abstract void append(char c);
 
+    /**
+     * Copies the runs of characters between escapes in one go, rather than one by one.
+     */
     private void toJavaSyntax(String unformatted) {
         append('"');
+        int start = 0;
         for (int i = 0; i < unformatted.length(); i++) {
-            toJavaSyntax(unformatted.charAt(i));
+            final String escaped = escapeOf(unformatted.charAt(i));
+            if (escaped != null) {
+                if (start < i) {
+                    append(unformatted, start, i);
+                }
+                append(escaped);
+                start = i + 1;
+            }
+        }
+        if (start < unformatted.length()) {
+            append(unformatted, start, unformatted.length());
         }
         append('"');
     }
 
     private void toJavaSyntax(char ch) {
+        final String escaped = escapeOf(ch);
+        if (escaped == null) {
+            append(ch);
+        } else {
+            append(escaped);
+        }
+    }
+
+    private static String escapeOf(char ch) {
         switch (ch) {
             case '"':
-                append("\\\"");
-                break;
+                return "\\\"";
             case '\n':
-                append("\\n");
-                break;
+                return "\\n";
             case '\r':
-                append("\\r");
-                break;
+                return "\\r";
             case '\t':
-                append("\\t");
-                break;
+                return "\\t";
             default:
-                append(ch);
+                return null;
         }
     }
 }
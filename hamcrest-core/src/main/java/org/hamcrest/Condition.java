@@ -1,5 +1,7 @@
 package org.hamcrest;
 
+import org.hamcrest.internal.Descriptions;
+
 /**
  * A Condition implements part of a multi-step match. We sometimes need to write matchers
  * that have a sequence of steps, where each step depends on the result of the previous
@@ -45,11 +47,15 @@ public abstract class Condition<T> {
 
         @Override
         public boolean matching(Matcher<T> matcher, String message) {
-            if (matcher.matches(theValue)) {
+            if (!Descriptions.isEnabled(mismatch)) {
+                return matcher.matches(theValue);
+            }
+            final MatchResult result = BaseMatcher.evaluate(matcher, theValue);
+            if (result.matched()) {
                 return true;
             }
             mismatch.appendText(message);
-            matcher.describeMismatch(theValue, mismatch);
+            result.describeMismatch(mismatch);
             return false;
         }
 
@@ -1,5 +1,7 @@
 package org.hamcrest;
 
+import org.hamcrest.internal.DeferredDescription;
+
 /**
  * TODO(ngd): Document.
  *
@@ -17,5 +19,11 @@ public abstract class DiagnosingMatcher<T> extends BaseMatcher<T> {
         matches(item, mismatchDescription);
     }
 
+    @Override
+    public MatchResult evaluate(Object item) {
+        final DeferredDescription mismatch = new DeferredDescription();
+        return matches(item, mismatch) ? MatchResult.MATCHED : mismatch.asMismatch();
+    }
+
     protected abstract boolean matches(Object item, Description mismatchDescription);
 }
@@ -1,5 +1,6 @@
 package org.hamcrest;
 
+import org.hamcrest.internal.Descriptions;
 import org.hamcrest.internal.ReflectiveTypeFinder;
 
 /**
@@ -37,10 +38,13 @@ public abstract class FeatureMatcher<T, U> extends TypeSafeDiagnosingMatcher<T>
 
   @Override
   protected boolean matchesSafely(T actual, Description mismatch) {
-    final U featureValue = featureValueOf(actual);
-    if (!subMatcher.matches(featureValue)) {
+    if (!Descriptions.isEnabled(mismatch)) {
+      return subMatcher.matches(featureValueOf(actual));
+    }
+    final MatchResult result = evaluate(subMatcher, featureValueOf(actual));
+    if (!result.matched()) {
       mismatch.appendText(featureName).appendText(" ");
-      subMatcher.describeMismatch(featureValue, mismatch);
+      result.describeMismatch(mismatch);
       return false;
     }
     return true;
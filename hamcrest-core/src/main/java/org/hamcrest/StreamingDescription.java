@@ -0,0 +1,175 @@
+package org.hamcrest;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * A {@link Description} that is written out as it is built, through a buffer of fixed
+ * size, rather than held in memory, so that a description of any size can be sent to a
+ * file or socket. Text is written whenever the buffer fills, and the rest when
+ * {@link #flush()} is called, after which the description can be used again.
+ * <p/>
+ * The description does not keep what is written, and does not close what it writes to.
+ * Channels must be blocking.
+ */
+public class StreamingDescription extends BaseDescription {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+    private final Sink sink;
+
+    public StreamingDescription(Writer out) {
+        this.sink = new WriterSink(out);
+    }
+
+    public StreamingDescription(WritableByteChannel out, Charset charset) {
+        this.sink = new ChannelSink(out, charset, null);
+    }
+
+    public StreamingDescription(OutputStream out, Charset charset) {
+        this.sink = new ChannelSink(Channels.newChannel(out), charset, out);
+    }
+
+    /**
+     * Writes out everything appended so far, and flushes what it is written to.
+     */
+    public void flush() {
+        try {
+            chars.flip();
+            sink.write(chars, true);
+            chars.clear();
+            sink.flush();
+        } catch (IOException e) {
+            throw new RuntimeException("Could not write description", e);
+        }
+    }
+
+    @Override
+    protected void append(String str) {
+        final String text = String.valueOf(str);
+        append(text, 0, text.length());
+    }
+
+    @Override
+    protected void append(String str, int start, int end) {
+        int from = start;
+        while (from < end) {
+            if (!chars.hasRemaining()) {
+                drain();
+            }
+            final int to = from + Math.min(end - from, chars.remaining());
+            chars.put(str, from, to);
+            from = to;
+        }
+    }
+
+    @Override
+    protected void append(char c) {
+        if (!chars.hasRemaining()) {
+            drain();
+        }
+        chars.put(c);
+    }
+
+    /**
+     * Writes out the buffer, except for half a surrogate pair at its end.
+     */
+    private void drain() {
+        try {
+            chars.flip();
+            sink.write(chars, false);
+            chars.compact();
+        } catch (IOException e) {
+            throw new RuntimeException("Could not write description", e);
+        }
+    }
+
+    private interface Sink {
+        /**
+         * Writes the remaining characters of <var>chars</var>, all of them if
+         * <var>endOfInput</var>, and otherwise as many as can be written by themselves.
+         */
+        void write(CharBuffer chars, boolean endOfInput) throws IOException;
+
+        void flush() throws IOException;
+    }
+
+    private static final class WriterSink implements Sink {
+        private final Writer out;
+
+        WriterSink(Writer out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(CharBuffer chars, boolean endOfInput) throws IOException {
+            out.write(chars.array(), chars.arrayOffset() + chars.position(), chars.remaining());
+            chars.position(chars.limit());
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+    }
+
+    private static final class ChannelSink implements Sink {
+        private final WritableByteChannel out;
+        private final Flushable flushable;
+        private final CharsetEncoder encoder;
+        private final ByteBuffer bytes;
+
+        /**
+         * @param flushable what the channel writes to, flushed by {@link #flush()}, or null
+         */
+        ChannelSink(WritableByteChannel out, Charset charset, Flushable flushable) {
+            this.out = out;
+            this.flushable = flushable;
+            this.encoder = charset.newEncoder()
+                                  .onMalformedInput(CodingErrorAction.REPLACE)
+                                  .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            this.bytes = ByteBuffer.allocate((int) Math.ceil(BUFFER_SIZE * encoder.maxBytesPerChar()));
+        }
+
+        @Override
+        public void write(CharBuffer chars, boolean endOfInput) throws IOException {
+            CoderResult result;
+            do {
+                result = encoder.encode(chars, bytes, endOfInput);
+                drain();
+            } while (result.isOverflow());
+            if (endOfInput) {
+                while (encoder.flush(bytes).isOverflow()) {
+                    drain();
+                }
+                drain();
+                encoder.reset();
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (flushable != null) {
+                flushable.flush();
+            }
+        }
+
+        private void drain() throws IOException {
+            bytes.flip();
+            while (bytes.hasRemaining()) {
+                out.write(bytes);
+            }
+            bytes.clear();
+        }
+    }
+}
@@ -4,9 +4,13 @@ import java.io.IOException;
 
 /**
  * A {@link Description} that is stored as a string.
+ * <p/>
+ * When written to a {@link StringBuilder}, as it is by default, text is appended to the
+ * builder directly rather than through {@link Appendable}, which may throw.
  */
 public class StringDescription extends BaseDescription {
     private final Appendable out;
+    private final StringBuilder builder;
 
     public StringDescription() {
         this(new StringBuilder());
@@ -14,6 +18,7 @@ public class StringDescription extends BaseDescription {
 
     public StringDescription(Appendable out) {
         this.out = out;
+        this.builder = (out instanceof StringBuilder) ? (StringBuilder) out : null;
     }
     
     /**
@@ -37,6 +42,10 @@ public class StringDescription extends BaseDescription {
 
     @Override
     protected void append(String str) {
+        if (builder != null) {
+            builder.append(str);
+            return;
+        }
         try {
             out.append(str);
         } catch (IOException e) {
@@ -44,8 +53,25 @@ public class StringDescription extends BaseDescription {
         }
     }
 
+    @Override
+    protected void append(String str, int start, int end) {
+        if (builder != null) {
+            builder.append(str, start, end);
+            return;
+        }
+        try {
+            out.append(str, start, end);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not write description", e);
+        }
+    }
+
     @Override
     protected void append(char c) {
+        if (builder != null) {
+            builder.append(c);
+            return;
+        }
         try {
             out.append(c);
         } catch (IOException e) {
@@ -1,5 +1,6 @@
 package org.hamcrest;
 
+import org.hamcrest.internal.DeferredDescription;
 import org.hamcrest.internal.ReflectiveTypeFinder;
 
 
@@ -54,7 +55,7 @@ public abstract class TypeSafeDiagnosingMatcher<T> extends BaseMatcher<T> {
     public final boolean matches(Object item) {
         return item != null
             && expectedType.isInstance(item)
-            && matchesSafely((T) item, new Description.NullDescription());
+            && matchesSafely((T) item, Description.NONE);
     }
 
     @SuppressWarnings("unchecked")
@@ -66,4 +67,14 @@ public abstract class TypeSafeDiagnosingMatcher<T> extends BaseMatcher<T> {
         matchesSafely((T) item, mismatchDescription);
       }
     }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public MatchResult evaluate(Object item) {
+      if (item == null || !expectedType.isInstance(item)) {
+        return super.evaluate(item);
+      }
+      final DeferredDescription mismatch = new DeferredDescription();
+      return matchesSafely((T) item, mismatch) ? MatchResult.MATCHED : mismatch.asMismatch();
+    }
 }
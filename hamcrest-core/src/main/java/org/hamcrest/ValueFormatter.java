@@ -0,0 +1,17 @@
+package org.hamcrest;
+
+/**
+ * Describes values of one type, in place of <code>toString()</code>, when they are
+ * appended to a description with {@link Description#appendValue(Object)}.
+ *
+ * @param <T> the type of the values described
+ * @see ValueFormatters#register(Class, ValueFormatter)
+ */
+public interface ValueFormatter<T> {
+    /**
+     * Appends a description of <var>value</var> to <var>description</var>. Formatters
+     * of large values should stop appending once a {@link SelectiveDescription} is not
+     * {@link SelectiveDescription#isEnabled() enabled}.
+     */
+    void describeValue(T value, Description description);
+}
@@ -3,7 +3,9 @@ package org.hamcrest.core;
 import org.hamcrest.Description;
 import org.hamcrest.DiagnosingMatcher;
 import org.hamcrest.Factory;
+import org.hamcrest.MatchResult;
 import org.hamcrest.Matcher;
+import org.hamcrest.internal.Descriptions;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -23,10 +25,19 @@ public class AllOf<T> extends DiagnosingMatcher<T> {
 
     @Override
     public boolean matches(Object o, Description mismatch) {
+        if (!Descriptions.isEnabled(mismatch)) {
+            for (Matcher<? super T> matcher : matchers) {
+                if (!matcher.matches(o)) {
+                    return false;
+                }
+            }
+            return true;
+        }
         for (Matcher<? super T> matcher : matchers) {
-            if (!matcher.matches(o)) {
+            final MatchResult result = evaluate(matcher, o);
+            if (!result.matched()) {
                 mismatch.appendDescriptionOf(matcher).appendText(" ");
-                matcher.describeMismatch(o, mismatch);
+                result.describeMismatch(mismatch);
               return false;
             }
         }
@@ -38,6 +49,10 @@ public class AllOf<T> extends DiagnosingMatcher<T> {
         description.appendList("(", " " + "and" + " ", ")", matchers);
     }
 
+    Iterable<Matcher<? super T>> matchers() {
+        return matchers;
+    }
+
     /**
      * Creates a matcher that matches if the examined object matches <b>ALL</b> of the specified matchers.
      * <p/>
@@ -1,6 +1,7 @@
 package org.hamcrest.core;
 
 import org.hamcrest.*;
+import org.hamcrest.internal.Descriptions;
 
 import java.util.ArrayList;
 
@@ -13,8 +14,12 @@ public class CombinableMatcher<T> extends TypeSafeDiagnosingMatcher<T> {
 
   @Override
   protected boolean matchesSafely(T item, Description mismatch) {
-    if (!matcher.matches(item)) {
-      matcher.describeMismatch(item, mismatch);
+    if (!Descriptions.isEnabled(mismatch)) {
+      return matcher.matches(item);
+    }
+    final MatchResult result = evaluate(matcher, item);
+    if (!result.matched()) {
+      result.describeMismatch(mismatch);
       return false;
     }
     return true;
@@ -25,6 +30,10 @@ public class CombinableMatcher<T> extends TypeSafeDiagnosingMatcher<T> {
     description.appendDescriptionOf(matcher);
   }
 
+  Matcher<? super T> matcher() {
+    return matcher;
+  }
+
   public CombinableMatcher<T> and(Matcher<? super T> other) {
     return new CombinableMatcher<T>(new AllOf<T>(templatedListWith(other)));
   }
@@ -5,6 +5,7 @@ package org.hamcrest.core;
 import org.hamcrest.BaseMatcher;
 import org.hamcrest.Description;
 import org.hamcrest.Factory;
+import org.hamcrest.MatchResult;
 import org.hamcrest.Matcher;
 
 import java.util.regex.Pattern;
@@ -53,6 +54,15 @@ public class DescribedAs<T> extends BaseMatcher<T> {
         matcher.describeMismatch(item, description);
     }
 
+    @Override
+    public MatchResult evaluate(Object item) {
+        return evaluate(matcher, item);
+    }
+
+    Matcher<T> matcher() {
+        return matcher;
+    }
+
     /**
      * Wraps an existing matcher, overriding its description with that specified.  All other functions are
      * delegated to the decorated matcher, including its mismatch description.
@@ -1,34 +1,246 @@
 package org.hamcrest.core;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.hamcrest.Description;
 import org.hamcrest.Factory;
+import org.hamcrest.MatchResult;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.hamcrest.internal.Descriptions;
 
 public class Every<T> extends TypeSafeDiagnosingMatcher<Iterable<T>> {
+    /**
+     * The smallest collection that {@link #everyItemInParallel(Matcher)} splits across threads.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 10000;
+
+    private static final int SEQUENTIAL = Integer.MAX_VALUE;
+    private static final int NO_FAILURE = Integer.MAX_VALUE;
+    private static final int CHUNKS_PER_THREAD = 4;
+
     private final Matcher<? super T> matcher;
+    private final int parallelThreshold;
 
     public Every(Matcher<? super T> matcher) {
+        this(matcher, SEQUENTIAL);
+    }
+
+    /**
+     * @param parallelThreshold
+     *     collections with at least this many items are checked in parallel; with
+     *     <code>Integer.MAX_VALUE</code>, the size of the collection is never asked
+     */
+    public Every(Matcher<? super T> matcher, int parallelThreshold) {
+        if (parallelThreshold < 1) {
+            throw new IllegalArgumentException("parallel threshold must be positive, was " + parallelThreshold);
+        }
         this.matcher= matcher;
+        this.parallelThreshold = parallelThreshold;
     }
 
     @Override
     public boolean matchesSafely(Iterable<T> collection, Description mismatchDescription) {
+        if (parallelThreshold != SEQUENTIAL && collection instanceof Collection
+                && ((Collection<T>) collection).size() >= parallelThreshold && !Workers.isWorkerThread()) {
+            return matchesInParallel((Collection<T>) collection, mismatchDescription);
+        }
+        if (!Descriptions.isEnabled(mismatchDescription)) {
+            for (T t : collection) {
+                if (!matcher.matches(t)) {
+                    return false;
+                }
+            }
+            return true;
+        }
         for (T t : collection) {
-            if (!matcher.matches(t)) {
+            final MatchResult result = evaluate(matcher, t);
+            if (!result.matched()) {
                 mismatchDescription.appendText("an item ");
-                matcher.describeMismatch(t, mismatchDescription);
+                result.describeMismatch(mismatchDescription);
                 return false;
             }
         }
         return true;
     }
 
+    /**
+     * The calling thread and as many idle workers as can be had take chunks of the items in
+     * turn, so the items are checked even when every worker is busy.
+     */
+    private boolean matchesInParallel(Collection<T> collection, Description mismatchDescription) {
+        final List<T> items = randomAccessItemsOf(collection);
+        final Sweep sweep = new Sweep(items, chunkSizeFor(items.size()));
+
+        final List<Future<Void>> helpers = new ArrayList<Future<Void>>();
+        final int failure;
+        try {
+            for (int i = 1; i < Math.min(Workers.THREADS, sweep.chunkCount); i++) {
+                final Future<Void> helper = Workers.trySubmit(sweep);
+                if (helper == null) {
+                    break;
+                }
+                helpers.add(helper);
+            }
+            sweep.call();
+            for (Future<Void> helper : helpers) {
+                helper.get();
+            }
+            failure = sweep.lowestFailure.get();
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while matching every item", e);
+        } finally {
+            sweep.stop();
+        }
+        return failure == NO_FAILURE || describeFailure(items.get(failure), mismatchDescription);
+    }
+
+    private boolean describeFailure(T item, Description mismatchDescription) {
+        mismatchDescription.appendText("an item ");
+        matcher.describeMismatch(item, mismatchDescription);
+        return false;
+    }
+
     @Override
     public void describeTo(Description description) {
         description.appendText("every item is ").appendDescriptionOf(matcher);
     }
 
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> randomAccessItemsOf(Collection<T> collection) {
+        if (collection instanceof List && collection instanceof RandomAccess) {
+            return (List<T>) collection;
+        }
+        final List<T> items = new ArrayList<T>(collection.size());
+        items.addAll(collection);
+        return items;
+    }
+
+    private static int chunkSizeFor(int size) {
+        final int chunkCount = Workers.THREADS * CHUNKS_PER_THREAD;
+        return Math.max(1, (size + chunkCount - 1) / chunkCount);
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        throw new IllegalStateException(cause);
+    }
+
+    /**
+     * Takes chunks of the items in turn until there are none left, checking each up to its
+     * first failure. Gives up on the rest of a chunk once a failure is known at a lower index,
+     * since only the lowest failing index is ever reported.
+     */
+    private final class Sweep implements Callable<Void> {
+        private final List<T> items;
+        private final int chunkSize;
+        private final int chunkCount;
+        private final AtomicInteger nextChunk = new AtomicInteger();
+        private final AtomicInteger lowestFailure = new AtomicInteger(NO_FAILURE);
+
+        Sweep(List<T> items, int chunkSize) {
+            this.items = items;
+            this.chunkSize = chunkSize;
+            this.chunkCount = (items.size() + chunkSize - 1) / chunkSize;
+        }
+
+        public Void call() {
+            for (int chunk = nextChunk.getAndIncrement(); chunk < chunkCount; chunk = nextChunk.getAndIncrement()) {
+                final int end = Math.min((chunk + 1) * chunkSize, items.size());
+                for (int i = chunk * chunkSize; i < end && lowestFailure.get() > i; i++) {
+                    if (!matcher.matches(items.get(i))) {
+                        recordFailure(i);
+                        break;
+                    }
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Makes any helper still running give up.
+         */
+        void stop() {
+            nextChunk.set(chunkCount);
+            lowestFailure.set(-1);
+        }
+
+        private void recordFailure(int index) {
+            int current = lowestFailure.get();
+            while (index < current && !lowestFailure.compareAndSet(current, index)) {
+                current = lowestFailure.get();
+            }
+        }
+    }
+
+    /**
+     * Daemon threads shared by all parallel matchers. They are started only when needed, at
+     * most one per processor, and end after a minute without work, so an idle pool holds no
+     * threads.
+     */
+    private static final class Workers {
+        static final int THREADS = Runtime.getRuntime().availableProcessors();
+
+        private static final long KEEP_ALIVE_SECONDS = 60;
+
+        private static final ExecutorService EXECUTOR = new ThreadPoolExecutor(
+                0, THREADS, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(),
+                new ThreadFactory() {
+                    private final AtomicInteger count = new AtomicInteger();
+
+                    public Thread newThread(Runnable runnable) {
+                        final Thread thread = new WorkerThread(runnable, "hamcrest-every-" + count.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+
+        /**
+         * @return the running task, or null if every worker is busy
+         */
+        static <V> Future<V> trySubmit(Callable<V> task) {
+            try {
+                return EXECUTOR.submit(task);
+            } catch (RejectedExecutionException e) {
+                return null;
+            }
+        }
+
+        /**
+         * Nested parallel matchers run sequentially, so that workers never wait on each other.
+         */
+        static boolean isWorkerThread() {
+            return Thread.currentThread() instanceof WorkerThread;
+        }
+
+        private static final class WorkerThread extends Thread {
+            WorkerThread(Runnable runnable, String name) {
+                super(runnable, name);
+            }
+        }
+    }
+
     /**
      * Creates a matcher for {@link Iterable}s that only matches when a single pass over the
      * examined {@link Iterable} yields items that are all matched by the specified
@@ -36,7 +248,7 @@ public class Every<T> extends TypeSafeDiagnosingMatcher<Iterable<T>> {
      * <p/>
      * For example:
      * <pre>assertThat(Arrays.asList("bar", "baz"), everyItem(startsWith("ba")))</pre>
-     * 
+     *
      * @param itemMatcher
      *     the matcher to apply to every item provided by the examined {@link Iterable}
      */
@@ -44,4 +256,38 @@ public class Every<T> extends TypeSafeDiagnosingMatcher<Iterable<T>> {
     public static <U> Matcher<Iterable<U>> everyItem(final Matcher<U> itemMatcher) {
         return new Every<U>(itemMatcher);
     }
+
+    /**
+     * Creates a matcher like {@link #everyItem(Matcher)} that splits examined {@link Collection}s
+     * of at least {@link #DEFAULT_PARALLEL_THRESHOLD} items across several threads. The
+     * <code>itemMatcher</code> must be safe to use from more than one thread at a time. When
+     * several items fail, the mismatch describes the first of them in iteration order.
+     * <p/>
+     * For example:
+     * <pre>assertThat(readings, everyItemInParallel(greaterThan(0)))</pre>
+     *
+     * @param itemMatcher
+     *     the matcher to apply to every item provided by the examined {@link Iterable}
+     */
+    @Factory
+    public static <U> Matcher<Iterable<U>> everyItemInParallel(final Matcher<U> itemMatcher) {
+        return new Every<U>(itemMatcher, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Creates a matcher like {@link #everyItemInParallel(Matcher)} that splits examined
+     * {@link Collection}s of at least <code>parallelThreshold</code> items across several threads.
+     * <p/>
+     * For example:
+     * <pre>assertThat(readings, everyItemInParallel(greaterThan(0), 1000))</pre>
+     *
+     * @param itemMatcher
+     *     the matcher to apply to every item provided by the examined {@link Iterable}
+     * @param parallelThreshold
+     *     the smallest collection that is checked in parallel
+     */
+    @Factory
+    public static <U> Matcher<Iterable<U>> everyItemInParallel(final Matcher<U> itemMatcher, int parallelThreshold) {
+        return new Every<U>(itemMatcher, parallelThreshold);
+    }
 }
@@ -3,6 +3,7 @@ package org.hamcrest.core;
 import org.hamcrest.BaseMatcher;
 import org.hamcrest.Description;
 import org.hamcrest.Factory;
+import org.hamcrest.MatchResult;
 import org.hamcrest.Matcher;
 
 import static org.hamcrest.core.IsEqual.equalTo;
@@ -37,6 +38,15 @@ public class Is<T> extends BaseMatcher<T> {
         matcher.describeMismatch(item, mismatchDescription);
     }
 
+    @Override
+    public MatchResult evaluate(Object item) {
+        return evaluate(matcher, item);
+    }
+
+    Matcher<T> matcher() {
+        return matcher;
+    }
+
     /**
      * Decorates another Matcher, retaining its behaviour, but allowing tests
      * to be slightly more expressive.
@@ -3,12 +3,17 @@ package org.hamcrest.core;
 import org.hamcrest.Description;
 import org.hamcrest.Factory;
 import org.hamcrest.Matcher;
+import org.hamcrest.SelfDescribing;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
 
+import org.hamcrest.internal.Descriptions;
+import org.hamcrest.internal.EqualityIndex;
+
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Iterator;
 import java.util.List;
 
-import static org.hamcrest.core.AllOf.allOf;
 import static org.hamcrest.core.IsEqual.equalTo;
 
 public class IsCollectionContaining<T> extends TypeSafeDiagnosingMatcher<Iterable<? super T>> {
@@ -30,20 +35,49 @@ public class IsCollectionContaining<T> extends TypeSafeDiagnosingMatcher<Iterabl
                 return true;
             }
         }
-
-        mismatchDescription.appendText("mismatches were: [");
-        boolean isPastFirst = false;
-        for (Object item : collection) {
-            if (isPastFirst) {
-              mismatchDescription.appendText(", ");
-            }
-            elementMatcher.describeMismatch(item, mismatchDescription);
-            isPastFirst = true;
+        if (!Descriptions.isEnabled(mismatchDescription)) {
+            return false;
         }
-        mismatchDescription.appendText("]");
+
+        mismatchDescription.appendList("mismatches were: [", ", ", "]", new Mismatches(collection));
         return false;
     }
 
+    /**
+     * The mismatch of each item, described only as the description takes it, so that a
+     * description that lists only some items examines only those.
+     */
+    private final class Mismatches implements Iterable<SelfDescribing> {
+        private final Iterable<?> items;
+
+        Mismatches(Iterable<?> items) {
+            this.items = items;
+        }
+
+        @Override
+        public Iterator<SelfDescribing> iterator() {
+            final Iterator<?> i = items.iterator();
+            return new Iterator<SelfDescribing>() {
+                @Override public boolean hasNext() {
+                    return i.hasNext();
+                }
+
+                @Override public SelfDescribing next() {
+                    final Object item = i.next();
+                    return new SelfDescribing() {
+                        @Override public void describeTo(Description description) {
+                            elementMatcher.describeMismatch(item, description);
+                        }
+                    };
+                }
+
+                @Override public void remove() {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+    }
+
     private boolean isEmpty(Iterable<? super T> iterable) {
       return ! iterable.iterator().hasNext();
     }
@@ -92,10 +126,10 @@ public class IsCollectionContaining<T> extends TypeSafeDiagnosingMatcher<Iterabl
     }
 
     /**
-     * Creates a matcher for {@link Iterable}s that matches when consecutive passes over the
-     * examined {@link Iterable} yield at least one item that is matched by the corresponding
-     * matcher from the specified <code>itemMatchers</code>.  Whilst matching, each traversal of
-     * the examined {@link Iterable} will stop as soon as a matching item is found.
+     * Creates a matcher for {@link Iterable}s that matches when a single pass over the
+     * examined {@link Iterable} yields, for each of the specified <code>itemMatchers</code>,
+     * at least one item that it matches.  Whilst matching, the traversal of the examined
+     * {@link Iterable} will stop as soon as every matcher has found a matching item.
      * <p/>
      * For example:
      * <pre>assertThat(Arrays.asList("foo", "bar", "baz"), hasItems(endsWith("z"), endsWith("o")))</pre>
@@ -105,21 +139,18 @@ public class IsCollectionContaining<T> extends TypeSafeDiagnosingMatcher<Iterabl
      */
     @Factory
     public static <T> Matcher<Iterable<T>> hasItems(Matcher<? super T>... itemMatchers) {
-        List<Matcher<? super Iterable<T>>> all = new ArrayList<Matcher<? super Iterable<T>>>(itemMatchers.length);
-        
+        List<Matcher<? super T>> all = new ArrayList<Matcher<? super T>>(itemMatchers.length);
         for (Matcher<? super T> elementMatcher : itemMatchers) {
-          // Doesn't forward to hasItem() method so compiler can sort out generics.
-          all.add(new IsCollectionContaining<T>(elementMatcher));
+            all.add(elementMatcher);
         }
-        
-        return allOf(all);
+        return new ContainingAll<T>(all);
     }
     
     /**
-     * Creates a matcher for {@link Iterable}s that matches when consecutive passes over the
-     * examined {@link Iterable} yield at least one item that is equal to the corresponding
-     * item from the specified <code>items</code>.  Whilst matching, each traversal of the
-     * examined {@link Iterable} will stop as soon as a matching item is found.
+     * Creates a matcher for {@link Iterable}s that matches when a single pass over the
+     * examined {@link Iterable} yields, for each of the specified <code>items</code>, at
+     * least one item that is equal to it.  Whilst matching, the traversal of the examined
+     * {@link Iterable} will stop as soon as every item has been found.
      * <p/>
      * For example:
      * <pre>assertThat(Arrays.asList("foo", "bar", "baz"), hasItems("baz", "foo"))</pre>
@@ -129,12 +160,88 @@ public class IsCollectionContaining<T> extends TypeSafeDiagnosingMatcher<Iterabl
      */
     @Factory
     public static <T> Matcher<Iterable<T>> hasItems(T... items) {
-        List<Matcher<? super Iterable<T>>> all = new ArrayList<Matcher<? super Iterable<T>>>(items.length);
+        List<Matcher<? super T>> all = new ArrayList<Matcher<? super T>>(items.length);
         for (T item : items) {
-            all.add(hasItem(item));
+            all.add(equalTo(item));
+        }
+        return new ContainingAll<T>(all);
+    }
+
+    /**
+     * Checks all the item matchers of <code>hasItems</code> in one traversal of the examined
+     * {@link Iterable}, trying each item only against the matchers that are still unsatisfied.
+     * When every matcher is a plain {@link IsEqual}, items are looked up by hash instead.
+     * Describes itself, and its mismatches, as the conjunction of {@link IsCollectionContaining}s
+     * that it replaces.
+     */
+    private static final class ContainingAll<T> extends TypeSafeDiagnosingMatcher<Iterable<T>> {
+        private final List<Matcher<? super T>> itemMatchers;
+        private final List<IsCollectionContaining<T>> collectionMatchers;
+        private final EqualityIndex index;
+
+        public ContainingAll(List<Matcher<? super T>> itemMatchers) {
+            this.itemMatchers = itemMatchers;
+            this.collectionMatchers = new ArrayList<IsCollectionContaining<T>>(itemMatchers.size());
+            for (Matcher<? super T> itemMatcher : itemMatchers) {
+                collectionMatchers.add(new IsCollectionContaining<T>(itemMatcher));
+            }
+            this.index = EqualityIndex.of(itemMatchers);
+        }
+
+        @Override
+        protected boolean matchesSafely(Iterable<T> collection, Description mismatchDescription) {
+            final int count = itemMatchers.size();
+            final BitSet satisfied = new BitSet(count);
+            int unsatisfied = count;
+            for (T item : collection) {
+                unsatisfied -= (index == null) ? satisfy(item, satisfied) : satisfyByHash(item, satisfied);
+                if (unsatisfied == 0) {
+                    return true;
+                }
+            }
+            if (count == 0) {
+                return true;
+            }
+            if (!Descriptions.isEnabled(mismatchDescription)) {
+                return false;
+            }
+
+            final IsCollectionContaining<T> firstUnsatisfied = collectionMatchers.get(satisfied.nextClearBit(0));
+            mismatchDescription.appendDescriptionOf(firstUnsatisfied).appendText(" ");
+            firstUnsatisfied.describeMismatch(collection, mismatchDescription);
+            return false;
+        }
+
+        private int satisfy(T item, BitSet satisfied) {
+            int newlySatisfied = 0;
+            for (int i = satisfied.nextClearBit(0); i < itemMatchers.size(); i = satisfied.nextClearBit(i + 1)) {
+                if (itemMatchers.get(i).matches(item)) {
+                    satisfied.set(i);
+                    newlySatisfied++;
+                }
+            }
+            return newlySatisfied;
+        }
+
+        private int satisfyByHash(T item, BitSet satisfied) {
+            final int slot = index.slotOf(item);
+            if (slot < 0) {
+                return 0;
+            }
+            final int[] positions = index.positionsIn(slot);
+            if (satisfied.get(positions[0])) {
+                return 0;
+            }
+            for (int position : positions) {
+                satisfied.set(position);
+            }
+            return positions.length;
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendList("(", " and ", ")", collectionMatchers);
         }
-        
-        return allOf(all);
     }
 
 }
@@ -31,6 +31,15 @@ public class IsEqual<T> extends BaseMatcher<T> {
         description.appendValue(expectedValue);
     }
 
+    /**
+     * Returns the value that examined objects are compared with. Matchers that combine
+     * many <code>IsEqual</code>s can use it to look items up by hash instead of trying
+     * each matcher in turn.
+     */
+    public Object expectedValue() {
+        return expectedValue;
+    }
+
     private static boolean areEqual(Object actual, Object expected) {
         if (actual == null) {
             return expected == null;
@@ -47,7 +47,7 @@ public class IsInstanceOf extends DiagnosingMatcher<Object> {
       }
       
       if (!matchableClass.isInstance(item)) {
-        mismatch.appendValue(item).appendText(" is a " + item.getClass().getName());
+        mismatch.appendValue(item).appendText(" is a ").appendText(item.getClass().getName());
         return false;
       }
       
@@ -30,6 +30,10 @@ public class IsNot<T> extends BaseMatcher<T>  {
         description.appendText("not ").appendDescriptionOf(matcher);
     }
 
+    Matcher<T> matcher() {
+        return matcher;
+    }
+
     
     /**
      * Creates a matcher that wraps an existing matcher, but inverts the logic by which
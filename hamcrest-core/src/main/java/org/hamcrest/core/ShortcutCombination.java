@@ -30,4 +30,8 @@ abstract class ShortcutCombination<T> extends BaseMatcher<T> {
     public void describeTo(Description description, String operator) {
         description.appendList("(", " " + operator + " ", ")", matchers);
     }
+
+    Iterable<Matcher<? super T>> matchers() {
+        return matchers;
+    }
 }
@@ -0,0 +1,109 @@
+package org.hamcrest.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hamcrest.Description;
+import org.hamcrest.MatchResult;
+import org.hamcrest.SelfDescribing;
+
+/**
+ * A {@link Description} that records what is appended to it, so that a mismatch noted
+ * while evaluating a matcher can be written out later, and only if it is needed.
+ * Values and {@link SelfDescribing}s are kept by reference and described when the
+ * recording is replayed.
+ */
+public final class DeferredDescription implements Description {
+    private final List<Step> steps = new ArrayList<Step>(4);
+
+    private interface Step {
+        void replayTo(Description description);
+    }
+
+    @Override
+    public Description appendText(final String text) {
+        steps.add(new Step() {
+            @Override public void replayTo(Description description) {
+                description.appendText(text);
+            }
+        });
+        return this;
+    }
+
+    @Override
+    public Description appendDescriptionOf(final SelfDescribing value) {
+        steps.add(new Step() {
+            @Override public void replayTo(Description description) {
+                description.appendDescriptionOf(value);
+            }
+        });
+        return this;
+    }
+
+    @Override
+    public Description appendValue(final Object value) {
+        steps.add(new Step() {
+            @Override public void replayTo(Description description) {
+                description.appendValue(value);
+            }
+        });
+        return this;
+    }
+
+    @Override
+    public <T> Description appendValueList(final String start, final String separator, final String end,
+                                           final T... values) {
+        steps.add(new Step() {
+            @Override public void replayTo(Description description) {
+                description.appendValueList(start, separator, end, values);
+            }
+        });
+        return this;
+    }
+
+    @Override
+    public <T> Description appendValueList(final String start, final String separator, final String end,
+                                           final Iterable<T> values) {
+        steps.add(new Step() {
+            @Override public void replayTo(Description description) {
+                description.appendValueList(start, separator, end, values);
+            }
+        });
+        return this;
+    }
+
+    @Override
+    public Description appendList(final String start, final String separator, final String end,
+                                  final Iterable<? extends SelfDescribing> values) {
+        steps.add(new Step() {
+            @Override public void replayTo(Description description) {
+                description.appendList(start, separator, end, values);
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Appends everything recorded so far to <var>description</var>.
+     */
+    public void replayTo(Description description) {
+        for (Step step : steps) {
+            step.replayTo(description);
+        }
+    }
+
+    /**
+     * @return a failed {@link MatchResult} whose mismatch is this recording
+     */
+    public MatchResult asMismatch() {
+        return new MatchResult() {
+            @Override public boolean matched() {
+                return false;
+            }
+
+            @Override public void describeMismatch(Description mismatchDescription) {
+                replayTo(mismatchDescription);
+            }
+        };
+    }
+}
@@ -31,6 +31,12 @@ public class ReflectiveTypeFinder {
   private final String methodName;
   private final int expectedNumberOfParameters;
   private final int typedParameter;
+  private final ClassCache<Class<?>> expectedTypes = new ClassCache<Class<?>>() {
+    @Override
+    protected Class<?> computeValue(Class<?> fromClass) {
+      return searchExpectedType(fromClass);
+    }
+  };
 
   public ReflectiveTypeFinder(String methodName, int expectedNumberOfParameters, int typedParameter) {
     this.methodName = methodName;
@@ -38,7 +44,32 @@ public class ReflectiveTypeFinder {
     this.typedParameter = typedParameter;
   }
   
+  /**
+   * Finds the expected type for a class. The result is cached per class, so matchers
+   * that are constructed repeatedly only pay for the reflection once.
+   *
+   * @param fromClass The leaf class of a templated class hierarchy
+   * @return The type we're looking for
+   */
   public Class<?> findExpectedType(Class<?> fromClass) {
+    return expectedTypes.get(fromClass);
+  }
+
+  /**
+   * @return the number of calls to {@link #findExpectedType(Class)} answered from the cache
+   */
+  public long cacheHitCount() {
+    return expectedTypes.hitCount();
+  }
+
+  /**
+   * @return the number of calls to {@link #findExpectedType(Class)} that needed reflection
+   */
+  public long cacheMissCount() {
+    return expectedTypes.missCount();
+  }
+
+  private Class<?> searchExpectedType(Class<?> fromClass) {
     for (Class<?> c = fromClass; c != Object.class; c = c.getSuperclass()) {
         for (Method method : c.getDeclaredMethods()) {
             if (canObtainExpectedTypeFrom(method)) {
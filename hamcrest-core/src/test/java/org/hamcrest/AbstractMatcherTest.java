@@ -39,6 +39,7 @@ public abstract class AbstractMatcherTest extends TestCase {
   public static <T> void assertMismatchDescription(String expected, Matcher<? super T> matcher, T arg) {
     Assert.assertFalse("Precondition: Matcher should not match item.", matcher.matches(arg));
     Assert.assertEquals("Expected mismatch description", expected, mismatchDescription(matcher, arg));
+    Assert.assertEquals("Expected evaluated mismatch description", expected, evaluatedMismatchDescription(matcher, arg));
   }
   
   public static void assertNullSafe(Matcher<?> matcher) {
@@ -65,6 +66,14 @@ public abstract class AbstractMatcherTest extends TestCase {
     return description.toString().trim();
   }
 
+  public static <T> String evaluatedMismatchDescription(Matcher<? super T> matcher, T arg) {
+    MatchResult result = BaseMatcher.evaluate(matcher, arg);
+    Assert.assertFalse("Precondition: Matcher should not match item when evaluated.", result.matched());
+    Description description = new StringDescription();
+    result.describeMismatch(description);
+    return description.toString().trim();
+  }
+
   public void testIsNullSafe() {
     assertNullSafe(createMatcher());
   }
@@ -1,7 +1,9 @@
 package org.hamcrest;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
+import org.hamcrest.internal.Descriptions;
 import org.junit.Test;
 
 public final class BaseDescriptionTest {
@@ -14,6 +16,11 @@ public final class BaseDescriptionTest {
         }
     };
 
+    @Test public void
+    isEnabled() {
+        assertTrue(Descriptions.isEnabled(baseDescription));
+    }
+
     @Test public void 
     describesAppendedNullValue() {
         baseDescription.appendValue(null);
@@ -26,6 +33,28 @@ public final class BaseDescriptionTest {
         assertEquals("\"foo\"", result.toString());
     }
 
+    @Test public void
+    escapesAppendedStringValue() {
+        baseDescription.appendValue("\"a\tb\r\nc\"");
+        assertEquals("\"\\\"a\\tb\\r\\nc\\\"\"", result.toString());
+    }
+
+    @Test public void
+    appendsUnescapedRunsOfAppendedStringValueTogether() {
+        final StringBuilder runs = new StringBuilder();
+        new BaseDescription() {
+            @Override protected void append(String str, int start, int end) {
+                runs.append('[').append(str, start, end).append(']');
+            }
+
+            @Override protected void append(char c) {
+                runs.append(c);
+            }
+        }.appendValue("ab\ncd");
+
+        assertEquals("\"[ab]\\n[cd]\"", runs.toString());
+    }
+
     @Test public void 
     quotesAppendedCharacterValue() {
         baseDescription.appendValue('f');
@@ -0,0 +1,84 @@
+package org.hamcrest;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.IsCollectionContaining.hasItem;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Iterator;
+
+import org.hamcrest.BoundedDescription.Limits;
+import org.junit.Test;
+
+public final class BoundedDescriptionTest {
+
+    @Test public void
+    describesValuesWithinTheLimitsAsAStringDescriptionDoes() {
+        final Matcher<Iterable<? super String>> matcher = hasItem(equalTo("a\tb"));
+        final BoundedDescription description = new BoundedDescription(new Limits(1000, 10, 10));
+        description.appendDescriptionOf(matcher).appendText(" ").appendValue(new int[] {1, 2});
+        matcher.describeMismatch(asList("c", "d"), description);
+
+        assertEquals(StringDescription.toString(matcher) + " [<1>, <2>]mismatches were: [was \"c\", was \"d\"]",
+                     description.toString());
+        assertTrue(description.isEnabled());
+    }
+
+    @Test public void
+    cutsShortTextBeyondTheCharacterLimit() {
+        final BoundedDescription description = new BoundedDescription(new Limits(5, 10, 10));
+        description.appendText("abc").appendValue("def");
+
+        assertEquals("abc\"d...", description.toString());
+        assertFalse(description.isEnabled());
+    }
+
+    @Test public void
+    showsOnlyTheFirstElementsOfALongList() {
+        assertEquals("[<1>, <2>, ...(3 more)]",
+                     new BoundedDescription(new Limits(1000, 2, 10))
+                         .appendValueList("[", ", ", "]", 1, 2, 3, 4, 5).toString());
+        assertEquals("[<1L>, <2L>, ...(3 more)]",
+                     new BoundedDescription(new Limits(1000, 2, 10)).appendValue(new long[] {1, 2, 3, 4, 5}).toString());
+    }
+
+    @Test public void
+    stopsTakingElementsFromAnIteratorAtTheLimit() {
+        final int[] taken = {0};
+        final Iterable<Integer> naturals = new Iterable<Integer>() {
+            @Override public Iterator<Integer> iterator() {
+                return new Iterator<Integer>() {
+                    @Override public boolean hasNext() {
+                        return true;
+                    }
+
+                    @Override public Integer next() {
+                        return ++taken[0];
+                    }
+
+                    @Override public void remove() {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+        };
+
+        assertEquals("[<1>, <2>, <3>, ...]",
+                     new BoundedDescription(new Limits(1000, 3, 10)).appendValueList("[", ", ", "]", naturals).toString());
+        assertEquals(3, taken[0]);
+    }
+
+    @Test public void
+    elidesDescriptionsNestedBeyondTheDepthLimit() {
+        final Object nested = new Object[] {1, new Object[] {2, new Object[] {3}}};
+
+        assertEquals("[<1>, [<2>, [...]]]", new BoundedDescription(new Limits(1000, 10, 2)).appendValue(nested).toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class) public void
+    rejectsNegativeLimits() {
+        new Limits(10, -1, 10);
+    }
+}
@@ -22,6 +22,27 @@ public final class FeatureMatcherTest {
         assertMismatchDescription("result mismatch-description", resultMatcher, new Thingy("foo"));
     }
 
+    @Test public void
+    extractsTheFeatureOnceWhenEvaluating() {
+        final int[] extractions = {0};
+        final FeatureMatcher<Thingy, String> countsExtractions = new FeatureMatcher<Thingy, String>(new Match("bar"), "Thingy with result", "result") {
+            @Override
+            public String featureValueOf(Thingy actual) {
+                extractions[0]++;
+                return actual.getResult();
+            }
+        };
+
+        final MatchResult result = countsExtractions.evaluate(new Thingy("foo"));
+        final StringDescription mismatchDescription = new StringDescription();
+        result.describeMismatch(mismatchDescription);
+
+        assertEquals(false, result.matched());
+        assertEquals("result mismatch-description", mismatchDescription.toString());
+        assertEquals(1, extractions[0]);
+        assertEquals(true, countsExtractions.evaluate(new Thingy("bar")).matched());
+    }
+
     @Test public void
     doesNotThrowNullPointerException() {
         assertMismatchDescription("was null", resultMatcher, null);
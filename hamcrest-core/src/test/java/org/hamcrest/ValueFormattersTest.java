@@ -0,0 +1,137 @@
+package org.hamcrest;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public final class ValueFormattersTest {
+
+    @Test public void
+    describesPrimitiveArraysAsTheirBoxedElements() {
+        assertEquals("[<1>, <2>]", valueOf(new int[] {1, 2}));
+        assertEquals("[<1L>, <2L>]", valueOf(new long[] {1, 2}));
+        assertEquals("[<1s>]", valueOf(new short[] {1}));
+        assertEquals("[<1.5F>]", valueOf(new float[] {1.5f}));
+        assertEquals("[<1.5>]", valueOf(new double[] {1.5}));
+        assertEquals("[<true>, <false>]", valueOf(new boolean[] {true, false}));
+        assertEquals("[\"a\", \"\\\"\"]", valueOf(new char[] {'a', '"'}));
+        assertEquals("[]", valueOf(new int[0]));
+    }
+
+    @Test public void
+    describesBytesAsHex() {
+        assertEquals("<0x01ff7f>", valueOf(new byte[] {1, (byte) 0xff, 0x7f}));
+    }
+
+    @Test public void
+    describesTheRemainingBytesOfAByteBufferWithoutMovingItsPosition() {
+        final ByteBuffer buffer = ByteBuffer.wrap(new byte[] {1, 2, 3, 4});
+        buffer.position(1);
+        buffer.limit(3);
+
+        assertEquals("<0x0203>", valueOf(buffer));
+        assertEquals(1, buffer.position());
+    }
+
+    @Test public void
+    showsOnlyTheFirstBytesOfALongByteArray() {
+        final String description = valueOf(new byte[ValueFormatters.MAX_HEX_BYTES + 3]);
+
+        assertEquals(2 * ValueFormatters.MAX_HEX_BYTES + "<0x...(3 more)>".length(), description.length());
+        assertEquals(true, description.endsWith("00...(3 more)>"));
+    }
+
+    @Test public void
+    describesOtherValuesAsTheirStringWould() {
+        final List<Object> list = new ArrayList<Object>(asList("a", null, 3));
+        list.add(list);
+
+        assertEquals("<abc>", valueOf(new StringBuilder("abc")));
+        assertEquals("<" + list + ">", valueOf(list));
+        assertEquals("<" + asList(1, 2) + ">", valueOf(asList(1, 2)));
+    }
+
+    @Test public void
+    limitsTheItemsShownOfACollectionInABoundedDescription() {
+        assertEquals("<[1, 2, ...(3 more)]>",
+                     new BoundedDescription(new BoundedDescription.Limits(100, 2, 10))
+                         .appendValue(asList(1, 2, 3, 4, 5)).toString());
+        assertEquals("[<1>, <2>, ...(3 more)]",
+                     new BoundedDescription(new BoundedDescription.Limits(100, 2, 10))
+                         .appendValue(new int[] {1, 2, 3, 4, 5}).toString());
+    }
+
+    @Test public void
+    describesValuesWithRegisteredFormatters() {
+        ValueFormatters.register(Shape.class, new ValueFormatter<Shape>() {
+            @Override public void describeValue(Shape shape, Description description) {
+                description.appendText("a shape of ").appendValue(shape.sides()).appendText(" sides");
+            }
+        });
+        ValueFormatters.register(Square.class, new ValueFormatter<Square>() {
+            @Override public void describeValue(Square square, Description description) {
+                description.appendText("a square");
+            }
+        });
+        try {
+            assertEquals("a shape of <3> sides", valueOf(new Triangle()));
+            assertEquals("a square", valueOf(new Square()));
+            assertEquals("a square", valueOf(new Square() { }));
+        } finally {
+            ValueFormatters.unregister(Shape.class);
+            ValueFormatters.unregister(Square.class);
+        }
+        assertEquals("<square>", valueOf(new Square()));
+    }
+
+    @Test public void
+    describesBoxedPrimitivesAsTheyWereWhateverIsRegistered() {
+        ValueFormatters.register(Object.class, new ValueFormatter<Object>() {
+            @Override public void describeValue(Object value, Description description) {
+                description.appendText("an object");
+            }
+        });
+        try {
+            assertEquals("<1>, <2.5>, <true>, <3>, <4L>, \"c\"",
+                         new StringDescription().appendValueList("", ", ", "", 1, 2.5, true, (byte) 3, 4L, 'c')
+                                                .toString());
+            assertEquals("an object", valueOf(new Square()));
+        } finally {
+            ValueFormatters.unregister(Object.class);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class) public void
+    rejectsANullFormatter() {
+        ValueFormatters.register(Square.class, null);
+    }
+
+    private static String valueOf(Object value) {
+        return new StringDescription().appendValue(value).toString();
+    }
+
+    private interface Shape {
+        int sides();
+    }
+
+    private static final class Triangle implements Shape {
+        @Override public int sides() {
+            return 3;
+        }
+    }
+
+    private static class Square implements Shape {
+        @Override public int sides() {
+            return 4;
+        }
+
+        @Override public String toString() {
+            return "square";
+        }
+    }
+}
@@ -15,6 +15,8 @@ import static org.hamcrest.core.IsNull.notNullValue;
 import static org.hamcrest.core.StringEndsWith.endsWith;
 import static org.hamcrest.core.StringStartsWith.startsWith;
 
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.junit.Test;
 
@@ -67,4 +69,23 @@ public final class AllOfTest {
     hasAMismatchDescriptionDescribingTheFirstFailingMatch() {
         assertMismatchDescription("\"good\" was \"bad\"", allOf(equalTo("bad"), equalTo("good")), "bad");
     }
+
+    @Test public void
+    doesNotDescribeTheMismatchWhenOnlyMatching() {
+        final Matcher<Object> neverMatches = new BaseMatcher<Object>() {
+            @Override public boolean matches(Object item) {
+                return false;
+            }
+
+            @Override public void describeTo(Description description) {
+                throw new AssertionError("described");
+            }
+
+            @Override public void describeMismatch(Object item, Description description) {
+                throw new AssertionError("described mismatch");
+            }
+        };
+
+        assertDoesNotMatch("matched", allOf(equalTo("bad"), neverMatches), "bad");
+    }
 }
@@ -8,9 +8,17 @@ import static org.hamcrest.AbstractMatcherTest.assertMismatchDescription;
 import static org.hamcrest.AbstractMatcherTest.assertNullSafe;
 import static org.hamcrest.AbstractMatcherTest.assertUnknownTypeSafe;
 import static org.hamcrest.core.StringContains.containsString;
+import static org.junit.Assert.assertEquals;
 
+import java.util.AbstractCollection;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
 
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.junit.Test;
 
@@ -44,5 +52,69 @@ public final class EveryTest {
     describesAMismatch() {
         assertMismatchDescription("an item was \"BXB\"", matcher, asList("BXB"));
     }
-}
 
+    @Test public void
+    doesNotAskTheSizeOfCollectionsWhenSequential() {
+        final List<String> items = asList("AaA", "BaB");
+        final Collection<String> sizeless = new AbstractCollection<String>() {
+            @Override public Iterator<String> iterator() { return items.iterator(); }
+            @Override public int size() { throw new UnsupportedOperationException("size"); }
+        };
+        assertMatches(matcher, sizeless);
+    }
+
+    @Test public void
+    matchesLargeCollectionsInParallel() {
+        final Matcher<Iterable<String>> parallel = Every.everyItemInParallel(containsString("a"), 10);
+        assertMatches(parallel, items(1000, -1));
+        assertMatches(parallel, new LinkedList<String>(items(1000, -1)));
+        assertDoesNotMatch(parallel, items(1000, 999));
+        assertDescription("every item is a string containing \"a\"", parallel);
+    }
+
+    @Test public void
+    describesTheFirstMismatchWhenMatchingInParallel() {
+        final Matcher<Iterable<String>> parallel = Every.everyItemInParallel(containsString("a"), 10);
+        final List<String> items = items(1000, 700);
+        items.set(998, "X998");
+        items.set(3, "X3");
+        assertMismatchDescription("an item was \"X3\"", parallel, items);
+        assertMismatchDescription("an item was \"X3\"", parallel, new LinkedList<String>(items));
+    }
+
+    @Test public void
+    checksSmallCollectionsSequentially() {
+        final List<String> threads = new ArrayList<String>();
+        final Matcher<String> recordsThread = new BaseMatcher<String>() {
+            @Override public boolean matches(Object item) {
+                threads.add(Thread.currentThread().getName());
+                return true;
+            }
+            @Override public void describeTo(Description description) { }
+        };
+        assertMatches(Every.everyItemInParallel(recordsThread, 4), asList("a", "b", "c"));
+        assertEquals(asList(Thread.currentThread().getName(), Thread.currentThread().getName(), Thread.currentThread().getName()), threads);
+    }
+
+    @Test(expected=UnsupportedOperationException.class) public void
+    propagatesExceptionsFromParallelMatching() {
+        final Matcher<String> explodes = new BaseMatcher<String>() {
+            @Override public boolean matches(Object item) {
+                if ("X500".equals(item)) {
+                    throw new UnsupportedOperationException();
+                }
+                return true;
+            }
+            @Override public void describeTo(Description description) { }
+        };
+        Every.everyItemInParallel(explodes, 10).matches(items(1000, 500));
+    }
+
+    private static List<String> items(int size, int missingAt) {
+        final List<String> items = new ArrayList<String>(size);
+        for (int i = 0; i < size; i++) {
+            items.add((i == missingAt ? "X" : "a") + i);
+        }
+        return items;
+    }
+}
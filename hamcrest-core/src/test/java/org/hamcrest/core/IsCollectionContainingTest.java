@@ -10,9 +10,12 @@ import static org.hamcrest.AbstractMatcherTest.assertUnknownTypeSafe;
 import static org.hamcrest.core.IsCollectionContaining.hasItem;
 import static org.hamcrest.core.IsCollectionContaining.hasItems;
 import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.assertEquals;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 import org.hamcrest.Description;
@@ -91,6 +94,43 @@ public final class IsCollectionContainingTest {
                                   matcher, asList(1, 2, 3));
     }
 
+    @Test public void
+    reportsFirstMissingItemWhenMatchingWithMatchers() {
+        final Matcher<Iterable<String>> matcher = hasItems(mismatchable("a"), mismatchable("b"), mismatchable("c"));
+
+        assertMismatchDescription("a collection containing mismatchable: b mismatches were: [mismatched: c, mismatched: a]",
+                                  matcher, asList("c", "a"));
+        assertMismatchDescription("a collection containing mismatchable: a was empty", matcher, new ArrayList<String>());
+    }
+
+    @Test public void
+    hasAReadableDescriptionForMultipleItems() {
+        assertDescription("(a collection containing <3> and a collection containing <4>)", hasItems(3, 4));
+    }
+
+    @Test public void
+    traversesTheCollectionOnceAndStopsWhenAllItemsAreFound() {
+        final List<String> visited = new ArrayList<String>();
+        final Iterable<String> items = new Iterable<String>() {
+            @Override
+            public Iterator<String> iterator() {
+                final Iterator<String> delegate = asList("a", "b", "c", "d").iterator();
+                return new Iterator<String>() {
+                    @Override public boolean hasNext() { return delegate.hasNext(); }
+                    @Override public String next() { String next = delegate.next(); visited.add(next); return next; }
+                    @Override public void remove() { throw new UnsupportedOperationException(); }
+                };
+            }
+        };
+
+        assertMatches(hasItems("b", "a", "b"), items);
+        assertEquals(asList("a", "b"), visited);
+
+        visited.clear();
+        assertMatches(hasItems(mismatchable("c"), mismatchable("a")), items);
+        assertEquals(asList("a", "b", "c"), visited);
+    }
+
     private static Matcher<? super String> mismatchable(final String string) {
         return new TypeSafeDiagnosingMatcher<String>() {
             @Override
@@ -0,0 +1,145 @@
+package org.hamcrest.beans;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hamcrest.internal.ClassCache;
+
+/**
+ * Finds the public instance fields and the record components of classes, once per class.
+ * Records are only recognised when running on a JVM that supports them; they are
+ * looked up reflectively so that this class still loads on older JVMs.
+ */
+final class FieldUtil {
+    private static final Method IS_RECORD = classMethod("isRecord");
+    private static final Method GET_RECORD_COMPONENTS = classMethod("getRecordComponents");
+
+    private static final ClassCache<ValueFields> FIELDS = new ClassCache<ValueFields>() {
+        @Override
+        protected ValueFields computeValue(Class<?> type) {
+            return new ValueFields(publicInstanceFieldsOf(type));
+        }
+    };
+
+    private static final ClassCache<ValueFields> COMPONENTS = new ClassCache<ValueFields>() {
+        @Override
+        protected ValueFields computeValue(Class<?> type) {
+            return new ValueFields(recordComponentsOf(type));
+        }
+    };
+
+    private FieldUtil() { }
+
+    /**
+     * @return the public, non-static fields of <var>type</var>, ordered by name
+     */
+    static ValueFields fieldsOf(Class<?> type) {
+        return FIELDS.get(type);
+    }
+
+    /**
+     * @return the components of <var>type</var>, in declaration order, or none if it is not a record
+     */
+    static ValueFields componentsOf(Class<?> type) {
+        return COMPONENTS.get(type);
+    }
+
+    /**
+     * @return the components of <var>type</var> if it is a record, otherwise its public fields
+     */
+    static ValueFields valuesOf(Class<?> type) {
+        return isRecord(type) ? componentsOf(type) : fieldsOf(type);
+    }
+
+    static boolean isRecord(Class<?> type) {
+        return IS_RECORD != null && Boolean.TRUE.equals(invoke(IS_RECORD, type));
+    }
+
+    private static FieldAccessor[] publicInstanceFieldsOf(Class<?> type) {
+        final List<Field> fields = new ArrayList<Field>();
+        for (Field field : type.getFields()) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                fields.add(field);
+            }
+        }
+        Collections.sort(fields, new Comparator<Field>() {
+            @Override public int compare(Field a, Field b) {
+                return a.getName().compareTo(b.getName());
+            }
+        });
+        final FieldAccessor[] accessors = new FieldAccessor[fields.size()];
+        for (int i = 0; i < accessors.length; i++) {
+            accessors[i] = FieldAccessor.forField(fields.get(i));
+        }
+        return accessors;
+    }
+
+    private static FieldAccessor[] recordComponentsOf(Class<?> type) {
+        if (!isRecord(type)) {
+            return new FieldAccessor[0];
+        }
+        final Object[] components = (Object[]) invoke(GET_RECORD_COMPONENTS, type);
+        final FieldAccessor[] accessors = new FieldAccessor[components.length];
+        for (int i = 0; i < components.length; i++) {
+            final Object component = components[i];
+            try {
+                final Class<?> componentClass = component.getClass();
+                accessors[i] = FieldAccessor.forComponent(
+                        (String) invoke(componentClass.getMethod("getName"), component),
+                        (Method) invoke(componentClass.getMethod("getAccessor"), component));
+            } catch (NoSuchMethodException e) {
+                throw new IllegalArgumentException("Could not get record components of " + type, e);
+            }
+        }
+        return accessors;
+    }
+
+    private static Method classMethod(String name) {
+        try {
+            return Class.class.getMethod(name);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static Object invoke(Method method, Object target) {
+        try {
+            return method.invoke(target);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Could not invoke " + method + " on " + target, e);
+        } catch (InvocationTargetException e) {
+            throw new IllegalArgumentException("Could not invoke " + method + " on " + target, e.getCause());
+        }
+    }
+
+    /**
+     * The fields or components of a class, in a stable order and indexed by name.
+     */
+    static final class ValueFields {
+        final FieldAccessor[] accessors;
+        private final Map<String, FieldAccessor> byName;
+
+        ValueFields(FieldAccessor[] accessors) {
+            this.accessors = accessors;
+            this.byName = new HashMap<String, FieldAccessor>(accessors.length * 2);
+            for (FieldAccessor accessor : accessors) {
+                byName.put(accessor.name(), accessor);
+            }
+        }
+
+        /**
+         * @return the accessor for the field, or null if there is no such field.
+         */
+        FieldAccessor named(String name) {
+            return byName.get(name);
+        }
+    }
+}
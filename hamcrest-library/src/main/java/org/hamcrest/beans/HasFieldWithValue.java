@@ -0,0 +1,148 @@
+package org.hamcrest.beans;
+
+import static org.hamcrest.Condition.matched;
+import static org.hamcrest.Condition.notMatched;
+
+import java.lang.reflect.InvocationTargetException;
+
+import org.hamcrest.Condition;
+import org.hamcrest.Description;
+import org.hamcrest.Factory;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * Matcher that asserts that a public field, or a component of a record, of the examined
+ * object meets the provided matcher. This reaches value types that have no JavaBean
+ * getters, which {@link HasPropertyWithValue} cannot see.
+ * <p/>
+ * Fields and components are looked up once for each class of object examined.
+ * Records are recognised only when running on a JVM that supports them.
+ */
+public class HasFieldWithValue<T> extends TypeSafeDiagnosingMatcher<T> {
+    private final Kind kind;
+    private final String name;
+    private final String mismatchPrefix;
+    private final Matcher<Object> valueMatcher;
+    private volatile BoundField lastField;
+
+    enum Kind {
+        FIELD("field", "hasField") {
+            @Override FieldUtil.ValueFields of(Class<?> type) {
+                return FieldUtil.fieldsOf(type);
+            }
+        },
+        COMPONENT("component", "hasComponent") {
+            @Override FieldUtil.ValueFields of(Class<?> type) {
+                return FieldUtil.componentsOf(type);
+            }
+        };
+
+        final String noun;
+        final String factoryName;
+
+        Kind(String noun, String factoryName) {
+            this.noun = noun;
+            this.factoryName = factoryName;
+        }
+
+        abstract FieldUtil.ValueFields of(Class<?> type);
+    }
+
+    HasFieldWithValue(Kind kind, String name, Matcher<?> valueMatcher) {
+        this.kind = kind;
+        this.name = name;
+        this.mismatchPrefix = kind.noun + " '" + name + "' ";
+        this.valueMatcher = nastyGenericsWorkaround(valueMatcher);
+    }
+
+    @Override
+    public boolean matchesSafely(T bean, Description mismatch) {
+        return valueOf(bean, mismatch).matching(valueMatcher, mismatchPrefix);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText(kind.factoryName + "(").appendValue(name).appendText(", ")
+                   .appendDescriptionOf(valueMatcher).appendText(")");
+    }
+
+    private Condition<Object> valueOf(T bean, Description mismatch) {
+        final FieldAccessor field = fieldFor(bean.getClass());
+        if (field == null) {
+            mismatch.appendText("No " + kind.noun + " \"" + name + "\"");
+            return notMatched();
+        }
+        try {
+            return matched(field.read(bean), mismatch);
+        } catch (InvocationTargetException e) {
+            mismatch.appendText(mismatchPrefix + "threw " + e.getCause());
+            return notMatched();
+        } catch (IllegalAccessException e) {
+            mismatch.appendText(mismatchPrefix + "could not be read: " + e.getMessage());
+            return notMatched();
+        }
+    }
+
+    /**
+     * Objects are usually all of one class, so remember the field for the last class seen.
+     */
+    private FieldAccessor fieldFor(Class<?> beanClass) {
+        final BoundField last = lastField;
+        if (last != null && last.beanClass == beanClass) {
+            return last.field;
+        }
+        final FieldAccessor field = kind.of(beanClass).named(name);
+        lastField = new BoundField(beanClass, field);
+        return field;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Matcher<Object> nastyGenericsWorkaround(Matcher<?> valueMatcher) {
+        return (Matcher<Object>) valueMatcher;
+    }
+
+    private static final class BoundField {
+        final Class<?> beanClass;
+        final FieldAccessor field;
+
+        BoundField(Class<?> beanClass, FieldAccessor field) {
+            this.beanClass = beanClass;
+            this.field = field;
+        }
+    }
+
+    /**
+     * Creates a matcher that matches when the examined object has a public field
+     * with the specified name whose value satisfies the specified matcher.
+     * <p/>
+     * For example:
+     * <pre>assertThat(point, hasField("x", equalTo(3)))</pre>
+     *
+     * @param fieldName
+     *     the name of the public field that examined objects should possess
+     * @param valueMatcher
+     *     a matcher for the value of the specified field of the examined object
+     */
+    @Factory
+    public static <T> Matcher<T> hasField(String fieldName, Matcher<?> valueMatcher) {
+        return new HasFieldWithValue<T>(Kind.FIELD, fieldName, valueMatcher);
+    }
+
+    /**
+     * Creates a matcher that matches when the examined object is a record with a
+     * component of the specified name whose value satisfies the specified matcher.
+     * <p/>
+     * For example:
+     * <pre>assertThat(point, hasComponent("x", equalTo(3)))</pre>
+     *
+     * @param componentName
+     *     the name of the record component that examined records should possess
+     * @param valueMatcher
+     *     a matcher for the value of the specified component of the examined record
+     */
+    @Factory
+    public static <T> Matcher<T> hasComponent(String componentName, Matcher<?> valueMatcher) {
+        return new HasFieldWithValue<T>(Kind.COMPONENT, componentName, valueMatcher);
+    }
+}
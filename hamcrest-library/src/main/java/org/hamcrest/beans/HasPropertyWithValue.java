@@ -2,8 +2,7 @@
  */
 package org.hamcrest.beans;
 
-import java.beans.PropertyDescriptor;
-import java.lang.reflect.Method;
+import java.lang.reflect.InvocationTargetException;
 
 import org.hamcrest.Condition;
 import org.hamcrest.Description;
@@ -13,7 +12,6 @@ import org.hamcrest.TypeSafeDiagnosingMatcher;
 
 import static org.hamcrest.Condition.matched;
 import static org.hamcrest.Condition.notMatched;
-import static org.hamcrest.beans.PropertyUtil.NO_ARGUMENTS;
 
 /**
  * Matcher that asserts that a JavaBean property on an argument passed to the
@@ -51,6 +49,11 @@ import static org.hamcrest.beans.PropertyUtil.NO_ARGUMENTS;
  * personGenListenerMock.expects(once()).method("personGenerated").with(and(isA(Person.class), hasProperty("Name", eq("Iain")));
  * PersonGenerationListener listener = (PersonGenerationListener)personGenListenerMock.proxy();</pre>
  * 
+ * The property name may also be a path through nested beans, such as
+ * <code>order.lines[3].sku</code>, where an index selects an element of an array or
+ * {@link Iterable}. The path is parsed once, and a mismatch names the segment of the
+ * path that could not be read.
+ * <p/>
  * If an exception is thrown by the getter method for a property, the property
  * does not exist, is not readable, or a reflection related exception is thrown
  * when trying to invoke it then this is treated as an evaluation failure and
@@ -67,21 +70,29 @@ import static org.hamcrest.beans.PropertyUtil.NO_ARGUMENTS;
  * @author Steve Freeman
  */
 public class HasPropertyWithValue<T> extends TypeSafeDiagnosingMatcher<T> {
-    private static final Condition.Step<PropertyDescriptor,Method> WITH_READ_METHOD = withReadMethod();
+    private static final Condition.Step<PropertyAccessor, PropertyAccessor> WITH_READ_METHOD = withReadMethod();
     private final String propertyName;
+    private final String mismatchPrefix;
+    private final PropertyPath path;
     private final Matcher<Object> valueMatcher;
+    private volatile BoundAccessor lastAccessor;
 
     public HasPropertyWithValue(String propertyName, Matcher<?> valueMatcher) {
         this.propertyName = propertyName;
+        this.mismatchPrefix = "property '" + propertyName + "' ";
+        this.path = PropertyPath.isPath(propertyName) ? PropertyPath.parse(propertyName) : null;
         this.valueMatcher = nastyGenericsWorkaround(valueMatcher);
     }
 
     @Override
     public boolean matchesSafely(T bean, Description mismatch) {
+        if (path != null) {
+            return valueAtPath(bean, mismatch).matching(valueMatcher, mismatchPrefix);
+        }
         return propertyOn(bean, mismatch)
                   .and(WITH_READ_METHOD)
                   .and(withPropertyValue(bean))
-                  .matching(valueMatcher, "property '" + propertyName + "' ");
+                  .matching(valueMatcher, mismatchPrefix);
     }
 
     @Override
@@ -90,8 +101,8 @@ public class HasPropertyWithValue<T> extends TypeSafeDiagnosingMatcher<T> {
                    .appendDescriptionOf(valueMatcher).appendText(")");
     }
 
-    private Condition<PropertyDescriptor> propertyOn(T bean, Description mismatch) {
-        PropertyDescriptor property = PropertyUtil.getPropertyDescriptor(propertyName, bean);
+    private Condition<PropertyAccessor> propertyOn(T bean, Description mismatch) {
+        PropertyAccessor property = accessorFor(bean.getClass());
         if (property == null) {
             mismatch.appendText("No property \"" + propertyName + "\"");
             return notMatched();
@@ -100,14 +111,35 @@ public class HasPropertyWithValue<T> extends TypeSafeDiagnosingMatcher<T> {
         return matched(property, mismatch);
     }
 
-    private Condition.Step<Method, Object> withPropertyValue(final T bean) {
-        return new Condition.Step<Method, Object>() {
+    private Condition<Object> valueAtPath(T bean, Description mismatch) {
+        final Object value = path.read(bean, mismatch);
+        return value == PropertyPath.UNREADABLE ? Condition.<Object>notMatched() : matched(value, mismatch);
+    }
+
+    /**
+     * Beans are usually all of one class, so remember the accessor for the last class seen.
+     */
+    private PropertyAccessor accessorFor(Class<?> beanClass) {
+        final BoundAccessor last = lastAccessor;
+        if (last != null && last.beanClass == beanClass) {
+            return last.accessor;
+        }
+        final PropertyAccessor accessor = PropertyUtil.propertiesOf(beanClass, null).accessor(propertyName);
+        lastAccessor = new BoundAccessor(beanClass, accessor);
+        return accessor;
+    }
+
+    private Condition.Step<PropertyAccessor, Object> withPropertyValue(final T bean) {
+        return new Condition.Step<PropertyAccessor, Object>() {
             @Override
-            public Condition<Object> apply(Method readMethod, Description mismatch) {
+            public Condition<Object> apply(PropertyAccessor property, Description mismatch) {
                 try {
-                    return matched(readMethod.invoke(bean, NO_ARGUMENTS), mismatch);
+                    return matched(property.read(bean), mismatch);
+                } catch (InvocationTargetException e) {
+                    mismatch.appendText(mismatchPrefix).appendText("threw " + e.getCause());
+                    return notMatched();
                 } catch (Exception e) {
-                    mismatch.appendText(e.getMessage());
+                    mismatch.appendText(mismatchPrefix).appendText("could not be read: " + e.getMessage());
                     return notMatched();
                 }
             }
@@ -119,29 +151,41 @@ public class HasPropertyWithValue<T> extends TypeSafeDiagnosingMatcher<T> {
         return (Matcher<Object>) valueMatcher;
     }
 
-    private static Condition.Step<PropertyDescriptor,Method> withReadMethod() {
-        return new Condition.Step<PropertyDescriptor, java.lang.reflect.Method>() {
+    private static Condition.Step<PropertyAccessor, PropertyAccessor> withReadMethod() {
+        return new Condition.Step<PropertyAccessor, PropertyAccessor>() {
             @Override
-            public Condition<Method> apply(PropertyDescriptor property, Description mismatch) {
-                final Method readMethod = property.getReadMethod();
-                if (null == readMethod) {
-                    mismatch.appendText("property \"" + property.getName() + "\" is not readable");
+            public Condition<PropertyAccessor> apply(PropertyAccessor property, Description mismatch) {
+                if (!property.isReadable()) {
+                    mismatch.appendText("property \"" + property.name() + "\" is not readable");
                     return notMatched();
                 }
-                return matched(readMethod, mismatch);
+                return matched(property, mismatch);
             }
         };
     }
 
+    static final class BoundAccessor {
+        final Class<?> beanClass;
+        final PropertyAccessor accessor;
+
+        BoundAccessor(Class<?> beanClass, PropertyAccessor accessor) {
+            this.beanClass = beanClass;
+            this.accessor = accessor;
+        }
+    }
+
     /**
      * Creates a matcher that matches when the examined object has a JavaBean property
      * with the specified name whose value satisfies the specified matcher.
      * <p/>
      * For example:
      * <pre>assertThat(myBean, hasProperty("foo", equalTo("bar"))</pre>
+     * or, for a property of nested beans:
+     * <pre>assertThat(order, hasProperty("lines[0].sku", equalTo("ABC-123"))</pre>
      * 
      * @param propertyName
-     *     the name of the JavaBean property that examined beans should possess
+     *     the name of the JavaBean property that examined beans should possess, or a
+     *     dotted and indexed path to a property of nested beans
      * @param valueMatcher
      *     a matcher for the value of the specified property of the examined bean
      */
@@ -43,9 +43,9 @@ public class IsArrayContainingInAnyOrder<E> extends TypeSafeMatcher<E[]> {
      * For a positive match, the examined array must be of the same length as the number of
      * specified matchers.
      * <p/>
-     * N.B. each of the specified matchers will only be used once during a given examination, so be
-     * careful when specifying matchers that may be satisfied by more than one entry in an examined
-     * array.
+     * N.B. each of the specified matchers will only be used once during a given examination. When
+     * several matchers accept the same entry, the entries of an examined array are paired with the
+     * matchers so that every matcher is satisfied, if that is possible.
      * <p>
      * For example:
      * <pre>assertThat(new String[]{"foo", "bar"}, arrayContainingInAnyOrder(equalTo("bar"), equalTo("foo")))</pre>
@@ -65,8 +65,8 @@ public class IsArrayContainingInAnyOrder<E> extends TypeSafeMatcher<E[]> {
      * of matchers.
      * <p/>
      * N.B. each matcher in the specified collection will only be used once during a given
-     * examination, so be careful when specifying matchers that may be satisfied by more than
-     * one entry in an examined array.
+     * examination. When several matchers accept the same entry, the entries of an examined
+     * array are paired with the matchers so that every matcher is satisfied, if that is possible.
      * <p>
      * For example:
      * <pre>assertThat(new String[]{"foo", "bar"}, arrayContainingInAnyOrder(Arrays.asList(equalTo("bar"), equalTo("foo"))))</pre>
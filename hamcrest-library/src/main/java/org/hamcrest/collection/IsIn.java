@@ -5,31 +5,198 @@ import org.hamcrest.Description;
 import org.hamcrest.Factory;
 import org.hamcrest.Matcher;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import static org.hamcrest.core.IsEqual.equalTo;
+
+/**
+ * Matches when the examined object is one of a number of candidates. Candidates given as an
+ * array are compared as {@link org.hamcrest.core.IsEqual} would compare them, and above
+ * {@link #INDEXED_THRESHOLD} candidates they are looked up in a hash set built once, at
+ * construction, instead of being scanned on every match. Candidates given as a
+ * {@link Collection} are looked up with the collection's own <code>contains</code> method.
+ */
 public class IsIn<T> extends BaseMatcher<T> {
+    /**
+     * The number of candidates above which an array of candidates is indexed.
+     */
+    public static final int INDEXED_THRESHOLD = 32;
+
     private final Collection<T> collection;
+    private final Candidates candidates;
 
     public IsIn(Collection<T> collection) {
         this.collection = collection;
+        this.candidates = new CollectionCandidates(collection);
     }
     
     public IsIn(T[] elements) {
-        collection = Arrays.asList(elements);
+        this(elements, false);
     }
-    
-    @SuppressWarnings("SuspiciousMethodCalls")
+
+    private IsIn(T[] elements, boolean byIdentity) {
+        this.collection = Arrays.asList(elements.clone());
+        if (byIdentity) {
+            this.candidates = elements.length > INDEXED_THRESHOLD ? new IndexedIdentityCandidates(collection)
+                                                                  : new IdentityCandidates(collection);
+        } else {
+            this.candidates = elements.length > INDEXED_THRESHOLD ? new IndexedEqualCandidates(collection)
+                                                                  : new EqualCandidates(collection);
+        }
+    }
+
     @Override
     public boolean matches(Object o) {
-        return collection.contains(o);
+        return candidates.contain(o);
     }
 
     @Override
     public void describeTo(Description buffer) {
-        buffer.appendText("one of ");
+        buffer.appendText(candidates.relationship());
         buffer.appendValueList("{", ", ", "}", collection);
     }
+
+    private interface Candidates {
+        boolean contain(Object item);
+        String relationship();
+    }
+
+    private static final class CollectionCandidates implements Candidates {
+        private final Collection<?> collection;
+
+        CollectionCandidates(Collection<?> collection) {
+            this.collection = collection;
+        }
+
+        @SuppressWarnings("SuspiciousMethodCalls")
+        @Override
+        public boolean contain(Object item) {
+            return collection.contains(item);
+        }
+
+        @Override
+        public String relationship() {
+            return "one of ";
+        }
+    }
+
+    private static class EqualCandidates implements Candidates {
+        private final List<Matcher<Object>> matchers = new ArrayList<Matcher<Object>>();
+
+        EqualCandidates(Collection<?> elements) {
+            for (Object element : elements) {
+                if (include(element)) {
+                    matchers.add(equalTo(element));
+                }
+            }
+        }
+
+        protected boolean include(Object element) {
+            return true;
+        }
+
+        @Override
+        public boolean contain(Object item) {
+            for (Matcher<Object> matcher : matchers) {
+                if (matcher.matches(item)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public String relationship() {
+            return "one of ";
+        }
+    }
+
+    /**
+     * Keeps plain values in a hash set. Arrays, which IsEqual compares by content but which
+     * hash by identity, are few in practice and are still compared one by one.
+     */
+    private static final class IndexedEqualCandidates extends EqualCandidates {
+        private final Set<Object> values;
+        private final boolean includesNull;
+
+        IndexedEqualCandidates(Collection<?> elements) {
+            super(elements);
+            this.values = new HashSet<Object>(elements.size() * 2);
+            boolean foundNull = false;
+            for (Object element : elements) {
+                if (element == null) {
+                    foundNull = true;
+                } else if (!isArray(element)) {
+                    values.add(element);
+                }
+            }
+            this.includesNull = foundNull;
+        }
+
+        @Override
+        protected boolean include(Object element) {
+            return isArray(element);
+        }
+
+        @Override
+        public boolean contain(Object item) {
+            if (item == null) {
+                return includesNull;
+            }
+            return isArray(item) ? super.contain(item) : values.contains(item);
+        }
+    }
+
+    private static class IdentityCandidates implements Candidates {
+        private final Object[] elements;
+
+        IdentityCandidates(Collection<?> elements) {
+            this.elements = elements.toArray();
+        }
+
+        @Override
+        public boolean contain(Object item) {
+            for (Object element : elements) {
+                if (element == item) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public String relationship() {
+            return "same instance as one of ";
+        }
+    }
+
+    private static final class IndexedIdentityCandidates extends IdentityCandidates {
+        private final Map<Object, Boolean> instances;
+
+        IndexedIdentityCandidates(Collection<?> elements) {
+            super(elements);
+            this.instances = new IdentityHashMap<Object, Boolean>(elements.size());
+            for (Object element : elements) {
+                instances.put(element, Boolean.TRUE);
+            }
+        }
+
+        @Override
+        public boolean contain(Object item) {
+            return instances.containsKey(item);
+        }
+    }
+
+    private static boolean isArray(Object o) {
+        return o != null && o.getClass().isArray();
+    }
     
     /**
      * Creates a matcher that matches when the examined object is found within the
@@ -135,4 +302,20 @@ public class IsIn<T> extends BaseMatcher<T> {
     public static <T> Matcher<T> oneOf(T... elements) {
         return in(elements);
     }
+
+    /**
+     * Creates a matcher that matches when the examined object is the same instance as one of
+     * the specified elements.
+     * <p/>
+     * For example:
+     * <pre>assertThat(myConstant, is(sameInstanceAsOneOf(FIRST, SECOND)))</pre>
+     *  
+     * @param elements
+     *     the instances amongst which matching items will be found 
+     * 
+     */
+    @Factory
+    public static <T> Matcher<T> sameInstanceAsOneOf(T... elements) {
+        return new IsIn<T>(elements, true);
+    }
 }
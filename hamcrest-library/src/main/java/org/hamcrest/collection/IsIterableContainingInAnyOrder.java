@@ -4,6 +4,7 @@ import org.hamcrest.Description;
 import org.hamcrest.Factory;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.hamcrest.internal.EqualityIndex;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -13,15 +14,18 @@ import java.util.List;
 import static org.hamcrest.core.IsEqual.equalTo;
 
 public class IsIterableContainingInAnyOrder<T> extends TypeSafeDiagnosingMatcher<Iterable<? extends T>> {
-    private final Collection<Matcher<? super T>> matchers;
+    private final List<Matcher<? super T>> matchers;
+    private final EqualityIndex index;
 
     public IsIterableContainingInAnyOrder(Collection<Matcher<? super T>> matchers) {
-        this.matchers = matchers;
+        this.matchers = new ArrayList<Matcher<? super T>>(matchers);
+        this.index = EqualityIndex.of(this.matchers);
     }
     
     @Override
     protected boolean matchesSafely(Iterable<? extends T> items, Description mismatchDescription) {
-      final Matching<T> matching = new Matching<T>(matchers, mismatchDescription);
+      final Matching<T> matching = (index == null) ? new MaximumMatching<T>(matchers, mismatchDescription)
+                                                   : new IndexedMatching<T>(matchers, index, mismatchDescription);
       for (T item : items) {
         if (! matching.matches(item)) {
           return false;
@@ -38,42 +42,136 @@ public class IsIterableContainingInAnyOrder<T> extends TypeSafeDiagnosingMatcher
           .appendText(" in any order");
     }
 
-    private static class Matching<S> {
-      private final Collection<Matcher<? super S>> matchers;
+    private static abstract class Matching<S> {
       private final Description mismatchDescription;
 
-      public Matching(Collection<Matcher<? super S>> matchers, Description mismatchDescription) {
-        this.matchers = new ArrayList<Matcher<? super S>>(matchers);
+      protected Matching(Description mismatchDescription) {
         this.mismatchDescription = mismatchDescription;
       }
-      
+
+      public abstract boolean matches(S item);
+
+      public abstract boolean isFinished(Iterable<? extends S> items);
+
+      protected boolean noMatchFor(Object item) {
+        mismatchDescription.appendText("no match for: ").appendValue(item);
+        return false;
+      }
+
+      protected boolean notMatched(Object item) {
+        mismatchDescription.appendText("not matched: ").appendValue(item);
+        return false;
+      }
+
+      protected boolean noItemMatches(List<Matcher<? super S>> unmatched, Iterable<? extends S> items) {
+        mismatchDescription
+          .appendText("no item matches: ").appendList("", ", ", "", unmatched)
+          .appendText(" in ").appendValueList("[", ", ", "]", items);
+        return false;
+      }
+    }
+
+    /**
+     * Pairs items with matchers so that as many matchers as possible are satisfied, even when
+     * one item is accepted by several of them. Each matcher is evaluated against each item at
+     * most once, and the pairing is left to {@link BipartiteMatching}.
+     */
+    private static class MaximumMatching<S> extends Matching<S> implements BipartiteMatching.Acceptance {
+      private final List<Matcher<? super S>> matchers;
+      private final BipartiteMatching matching;
+      private final List<S> items = new ArrayList<S>();
+
+      public MaximumMatching(List<Matcher<? super S>> matchers, Description mismatchDescription) {
+        super(mismatchDescription);
+        this.matchers = matchers;
+        this.matching = new BipartiteMatching(matchers.size(), this);
+      }
+
+      @Override
       public boolean matches(S item) {
-        if (matchers.isEmpty()) {
-          mismatchDescription.appendText("no match for: ").appendValue(item);
-          return false;
+        if (items.size() == matchers.size()) {
+          return noMatchFor(item);
+        }
+        items.add(item);
+        if (!matching.add()) {
+          return notMatched(item);
         }
-        return isMatched(item);
+        return true;
       }
 
-      public boolean isFinished(Iterable<? extends S> items) {
-        if (matchers.isEmpty()) {
+      @Override
+      public boolean accepts(int item, int matcher) {
+        return matchers.get(matcher).matches(items.get(item));
+      }
+
+      @Override
+      public boolean isFinished(Iterable<? extends S> examined) {
+        if (matching.solve() == matchers.size()) {
           return true;
         }
-        mismatchDescription
-          .appendText("no item matches: ").appendList("", ", ", "", matchers)
-          .appendText(" in ").appendValueList("[", ", ", "]", items);
-        return false;
+        for (int item = 0; item < items.size(); item++) {
+          if (matching.matcherOf(item) < 0) {
+            return notMatched(items.get(item));
+          }
+        }
+        final List<Matcher<? super S>> unmatched = new ArrayList<Matcher<? super S>>();
+        for (int matcher = 0; matcher < matchers.size(); matcher++) {
+          if (matching.itemOf(matcher) < 0) {
+            unmatched.add(matchers.get(matcher));
+          }
+        }
+        return noItemMatches(unmatched, examined);
       }
+    }
 
-      private boolean isMatched(S item) {
-        for (Matcher<? super S>  matcher : matchers) {
-          if (matcher.matches(item)) {
-            matchers.remove(matcher);
-            return true;
+    /**
+     * When every matcher is an {@link org.hamcrest.core.IsEqual}, treats the expected values
+     * as a multiset and finds each item's matcher by hash. Equal matchers are used up in
+     * the order they were given, and the outcome is the same as for {@link MaximumMatching},
+     * since matchers that accept the same item are interchangeable.
+     */
+    private static class IndexedMatching<S> extends Matching<S> {
+      private final List<Matcher<? super S>> matchers;
+      private final EqualityIndex index;
+      private final int[] usedInSlot;
+      private final boolean[] used;
+      private int unmatchedCount;
+
+      public IndexedMatching(List<Matcher<? super S>> matchers, EqualityIndex index, Description mismatchDescription) {
+        super(mismatchDescription);
+        this.matchers = matchers;
+        this.index = index;
+        this.usedInSlot = new int[index.slotCount()];
+        this.used = new boolean[matchers.size()];
+        this.unmatchedCount = matchers.size();
+      }
+
+      @Override
+      public boolean matches(S item) {
+        if (unmatchedCount == 0) {
+          return noMatchFor(item);
+        }
+        final int slot = index.slotOf(item);
+        if (slot < 0 || usedInSlot[slot] == index.positionsIn(slot).length) {
+          return notMatched(item);
+        }
+        used[index.positionsIn(slot)[usedInSlot[slot]++]] = true;
+        unmatchedCount--;
+        return true;
+      }
+
+      @Override
+      public boolean isFinished(Iterable<? extends S> items) {
+        if (unmatchedCount == 0) {
+          return true;
+        }
+        final List<Matcher<? super S>> unmatched = new ArrayList<Matcher<? super S>>(unmatchedCount);
+        for (int i = 0; i < used.length; i++) {
+          if (!used[i]) {
+            unmatched.add(matchers.get(i));
           }
         }
-        mismatchDescription.appendText("not matched: ").appendValue(item);
-        return false;
+        return noItemMatches(unmatched, items);
       }
     }
 
@@ -83,9 +181,9 @@ public class IsIterableContainingInAnyOrder<T> extends TypeSafeDiagnosingMatcher
      * in the specified matchers.  For a positive match, the examined iterable must be of the same
      * length as the number of specified matchers.
      * <p/>
-     * N.B. each of the specified matchers will only be used once during a given examination, so be
-     * careful when specifying matchers that may be satisfied by more than one entry in an examined
-     * iterable.
+     * N.B. each of the specified matchers will only be used once during a given examination. When
+     * several matchers accept the same entry, the entries of an examined iterable are paired with the
+     * matchers so that every matcher is satisfied, if that is possible.
      * <p/>
      * For example:
      * <pre>assertThat(Arrays.asList("foo", "bar"), containsInAnyOrder(equalTo("bar"), equalTo("foo")))</pre>
@@ -131,8 +229,8 @@ public class IsIterableContainingInAnyOrder<T> extends TypeSafeDiagnosingMatcher
      * must be of the same length as the specified collection of matchers.
      * <p/>
      * N.B. each matcher in the specified collection will only be used once during a given
-     * examination, so be careful when specifying matchers that may be satisfied by more than
-     * one entry in an examined iterable.
+     * examination. When several matchers accept the same entry, the entries of an examined
+     * iterable are paired with the matchers so that every matcher is satisfied, if that is possible.
      * <p/>
      * For example:
      * <pre>assertThat(Arrays.asList("foo", "bar"), containsInAnyOrder(Arrays.asList(equalTo("bar"), equalTo("foo"))))</pre>
@@ -4,6 +4,7 @@ import org.hamcrest.Description;
 import org.hamcrest.Factory;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.hamcrest.internal.Descriptions;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -68,7 +69,9 @@ public class IsIterableContainingInOrder<E> extends TypeSafeDiagnosingMatcher<It
         private boolean isMatched(F item) {
             final Matcher<? super F> matcher = matchers.get(nextMatchIx);
             if (!matcher.matches(item)) {
-                describeMismatch(matcher, item);
+                if (Descriptions.isEnabled(mismatchDescription)) {
+                    describeMismatch(matcher, item);
+                }
                 return false;
             }
             nextMatchIx++;
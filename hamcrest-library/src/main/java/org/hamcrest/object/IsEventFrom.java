@@ -25,7 +25,7 @@ public class IsEventFrom extends TypeSafeDiagnosingMatcher<EventObject> {
     @Override
     public boolean matchesSafely(EventObject item, Description mismatchDescription) {
         if (!eventClass.isInstance(item)) {
-          mismatchDescription.appendText("item type was " + item.getClass().getName());
+          mismatchDescription.appendText("item type was ").appendText(item.getClass().getName());
           return false;
         }
         
@@ -14,6 +14,9 @@ import static org.hamcrest.Condition.notMatched;
 
 /**
  * Applies a Matcher to a given XML Node in an existing XML Node tree, specified by an XPath expression.
+ * <p/>
+ * A matcher may be shared between threads. Compiled expressions are pooled and shared
+ * with other matchers for the same expression and namespace context.
  *
  * @author Joe Walnes
  * @author Steve Freeman
@@ -23,7 +26,7 @@ public class HasXPath extends TypeSafeDiagnosingMatcher<Node> {
     private static final IsAnything<String> WITH_ANY_CONTENT = new IsAnything<String>("");
     private static final Condition.Step<Object,String> NODE_EXISTS = nodeExists();
     private final Matcher<String> valueMatcher;
-    private final XPathExpression compiledXPath;
+    private final XPathExpressions.Pool compiledXPath;
     private final String xpathString;
     private final QName evaluationMode;
 
@@ -47,7 +50,7 @@ public class HasXPath extends TypeSafeDiagnosingMatcher<Node> {
     }
 
     private HasXPath(String xPathExpression, NamespaceContext namespaceContext, Matcher<String> valueMatcher, QName mode) {
-        this.compiledXPath = compiledXPath(xPathExpression, namespaceContext);
+        this.compiledXPath = XPathExpressions.poolFor(xPathExpression, namespaceContext);
         this.xpathString = xPathExpression;
         this.valueMatcher = valueMatcher;
         this.evaluationMode = mode;
@@ -68,11 +71,30 @@ public class HasXPath extends TypeSafeDiagnosingMatcher<Node> {
         }
     }
 
+    String expression() {
+        return xpathString;
+    }
+
+    /**
+     * Applies the value matcher as if evaluating the expression had found a node with the
+     * string value <var>value</var>, or no node if it is null, describing any mismatch as
+     * this matcher would.
+     */
+    boolean matchesValue(String value, Description mismatch) {
+        final Object result = (value == null && STRING.equals(evaluationMode)) ? "" : value;
+        return matched(result, mismatch)
+               .and(NODE_EXISTS)
+               .matching(valueMatcher);
+    }
+
     private Condition<Object> evaluated(Node item, Description mismatch) {
+        final XPathExpression expression = compiledXPath.borrow();
         try {
-            return matched(compiledXPath.evaluate(item, evaluationMode), mismatch);
+            return matched(expression.evaluate(item, evaluationMode), mismatch);
         } catch (XPathExpressionException e) {
             mismatch.appendText(e.getMessage());
+        } finally {
+            compiledXPath.release(expression);
         }
         return notMatched();
     }
@@ -90,18 +112,6 @@ public class HasXPath extends TypeSafeDiagnosingMatcher<Node> {
         };
     }
 
-    private static XPathExpression compiledXPath(String xPathExpression, NamespaceContext namespaceContext) {
-        try {
-            final XPath xPath = XPathFactory.newInstance().newXPath();
-            if (namespaceContext != null) {
-                xPath.setNamespaceContext(namespaceContext);
-            }
-            return xPath.compile(xPathExpression);
-        } catch (XPathExpressionException e) {
-            throw new IllegalArgumentException("Invalid XPath : " + xPathExpression, e);
-        }
-    }
-
 
     /**
      * Creates a matcher of {@link org.w3c.dom.Node}s that matches when the examined node has a value at the
@@ -0,0 +1,50 @@
+package org.hamcrest.beans;
+
+import static org.hamcrest.beans.HasFieldWithValueTest.record;
+import static org.hamcrest.beans.HasFieldWithValueTest.records;
+import static org.hamcrest.beans.SameFieldValuesAs.sameFieldValuesAs;
+
+import org.hamcrest.AbstractMatcherTest;
+import org.hamcrest.Matcher;
+import org.hamcrest.beans.HasFieldWithValueTest.NamedPoint;
+import org.hamcrest.beans.HasFieldWithValueTest.Point;
+
+public class SameFieldValuesAsTest extends AbstractMatcherTest {
+  private static final Point expectedPoint = new Point(3, 4);
+
+  @Override
+  protected Matcher<?> createMatcher() {
+    return sameFieldValuesAs(expectedPoint);
+  }
+
+  public void testReportsMatchWhenAllFieldsMatch() {
+    assertMatches("matched fields", sameFieldValuesAs(expectedPoint), new Point(3, 4));
+  }
+
+  public void testReportsMismatchWhenActualTypeIsNotAssignableToExpectedType() {
+    assertMismatchDescription("is incompatible type: Point",
+                              sameFieldValuesAs((Object) "a string"), expectedPoint);
+  }
+
+  public void testReportsEveryFieldDifference() {
+    assertMismatchDescription("x was <4>", sameFieldValuesAs(expectedPoint), new Point(4, 4));
+    assertMismatchDescription("x was <4>, y was <3>", sameFieldValuesAs(expectedPoint), new Point(4, 3));
+  }
+
+  public void testRejectsSubTypeThatHasExtraFields() {
+    assertMismatchDescription("has extra fields called [name]",
+                              sameFieldValuesAs(expectedPoint), new NamedPoint("p", 3, 4));
+  }
+
+  public void testComparesTheComponentsOfRecordsThatAreNotPublic() throws Exception {
+    if (records() == null) {
+      return; // this JVM has no records
+    }
+    assertMatches("private nested record", sameFieldValuesAs(record("secret", 7)), record("secret", 7));
+    assertMismatchDescription("code was <8>", sameFieldValuesAs(record("secret", 7)), record("secret", 8));
+  }
+
+  public void testDescribesItself() {
+    assertDescription("same field values as Point [x: <3>, y: <4>]", sameFieldValuesAs(expectedPoint));
+  }
+}
@@ -36,6 +36,11 @@ public class SamePropertyValuesAsTest extends AbstractMatcherTest {
         samePropertyValuesAs(expectedBean), new ExampleBean("same", 1, new Value("other")));
   }
 
+  public void testReportsEveryPropertyDifference() {
+    assertMismatchDescription("int was <2>, string was \"different\", value was <Value other>",
+        samePropertyValuesAs(expectedBean), new ExampleBean("different", 2, new Value("other")));
+  }
+
   public void testMatchesBeansWithInheritanceButNoExtraProperties() {
     assertMatches("sub type with same properties", 
         samePropertyValuesAs(expectedBean), new SubBeanWithNoExtraProperties("same", 1, aValue));
@@ -46,6 +51,15 @@ public class SamePropertyValuesAsTest extends AbstractMatcherTest {
         samePropertyValuesAs(expectedBean), new SubBeanWithExtraProperty("same", 1, aValue));
   }
   
+  public void testChecksExtraPropertiesOfEachClassOfBeanCompared() {
+    Matcher<ExampleBean> matcher = samePropertyValuesAs(expectedBean);
+    for (int i = 0; i < 2; i++) {
+      assertMatches("same class", matcher, actualBean);
+      assertDoesNotMatch("sub type with extra property", matcher, new SubBeanWithExtraProperty("same", 1, aValue));
+      assertMatches("sub type with same properties", matcher, new SubBeanWithNoExtraProperties("same", 1, aValue));
+    }
+  }
+
   public void testDescribesItself() {
     assertDescription("same property values as ExampleBean [int: <1>, string: \"same\", value: <Value expected>]", samePropertyValuesAs(expectedBean));
   }
@@ -40,4 +40,11 @@ public class IsArrayContainingInAnyOrderTest extends AbstractMatcherTest {
       assertMismatchDescription("no item matches: <2>, <3> in [<1>]", matcher, new Integer[] {1});
       assertMismatchDescription("not matched: <4>", matcher, new Integer[] {4,3,2,1});
     }
+
+    public void testMatchesDuplicateItemsInAnyOrder() {
+      Matcher<Integer[]> matcher = arrayContainingInAnyOrder(1, 2, 1);
+      assertMatches("duplicates", matcher, new Integer[] {1, 1, 2});
+      assertMismatchDescription("not matched: <2>", matcher, new Integer[] {2, 2, 1});
+      assertMismatchDescription("no item matches: <1> in [<2>, <1>]", matcher, new Integer[] {2, 1});
+    }
 }
@@ -41,4 +41,54 @@ public class IsInTest extends AbstractMatcherTest {
             "one of {\"a\", \"b\", \"c\"}", 
             StringDescription.toString(isIn));
     }
+
+    public void testIndexesLargeArraysOfCandidates() {
+        Matcher<String> isIn = IsIn.oneOf(manyElements("x", IsIn.INDEXED_THRESHOLD + 1));
+
+        assertMatches("first", isIn, "x0");
+        assertMatches("last", isIn, "x" + IsIn.INDEXED_THRESHOLD);
+        assertDoesNotMatch("absent", isIn, "y0");
+        assertDoesNotMatch("null", isIn, null);
+    }
+
+    public void testMatchesNullAndArrayCandidatesAsIsEqualDoes() {
+        for (int size : new int[] {3, IsIn.INDEXED_THRESHOLD + 1}) {
+            Object[] candidates = new Object[size];
+            System.arraycopy(manyElements("x", size), 0, candidates, 0, size);
+            candidates[0] = null;
+            candidates[1] = new String[] {"a", "b"};
+            Matcher<Object> isIn = IsIn.oneOf(candidates);
+
+            assertMatches("null", isIn, null);
+            assertMatches("equal array", isIn, new String[] {"a", "b"});
+            assertDoesNotMatch("different array", isIn, new String[] {"a", "c"});
+            assertMatches("value", isIn, "x2");
+        }
+    }
+
+    public void testMatchesSameInstanceAsOneOf() {
+        for (int size : new int[] {3, IsIn.INDEXED_THRESHOLD + 1}) {
+            String[] candidates = manyElements("x", size);
+            Matcher<String> isIn = IsIn.sameInstanceAsOneOf(candidates);
+
+            assertMatches("same instance", isIn, candidates[size - 1]);
+            assertDoesNotMatch("equal instance", isIn, new String(candidates[size - 1]));
+        }
+    }
+
+    public void testDescribesIndexedCandidatesLikeOtherCandidates() {
+        assertDescription("one of {\"x0\", \"x1\", \"x2\"}", IsIn.oneOf(manyElements("x", 3)));
+        assertEquals("description",
+            StringDescription.toString(new IsIn<String>(Arrays.asList(manyElements("x", IsIn.INDEXED_THRESHOLD + 1)))),
+            StringDescription.toString(IsIn.oneOf(manyElements("x", IsIn.INDEXED_THRESHOLD + 1))));
+        assertDescription("same instance as one of {\"a\", \"b\", \"c\"}", IsIn.sameInstanceAsOneOf(elements));
+    }
+
+    private static String[] manyElements(String prefix, int size) {
+        String[] result = new String[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = prefix + i;
+        }
+        return result;
+    }
 }
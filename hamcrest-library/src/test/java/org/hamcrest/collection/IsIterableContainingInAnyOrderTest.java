@@ -1,15 +1,21 @@
 package org.hamcrest.collection;
 
 import org.hamcrest.AbstractMatcherTest;
+import org.hamcrest.CustomMatcher;
 import org.hamcrest.Matcher;
 import org.hamcrest.collection.IsIterableContainingInOrderTest.WithValue;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 import static java.util.Arrays.asList;
 import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInAnyOrder;
 import static org.hamcrest.collection.IsIterableContainingInOrderTest.make;
 import static org.hamcrest.collection.IsIterableContainingInOrderTest.value;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.StringStartsWith.startsWith;
+import static org.hamcrest.number.OrderingComparison.greaterThanOrEqualTo;
 
 public class IsIterableContainingInAnyOrderTest extends AbstractMatcherTest {
 
@@ -51,4 +57,75 @@ public class IsIterableContainingInAnyOrderTest extends AbstractMatcherTest {
     public void testHasAReadableDescription() {
         assertDescription("iterable with items [<1>, <2>] in any order", containsInAnyOrder(1, 2));
     }
+
+    public void testMatchesDuplicateAndNullItems() {
+        assertMatches("duplicates", containsInAnyOrder(1, 2, 1, null), asList(null, 1, 1, 2));
+        assertMismatchDescription("not matched: <2>", containsInAnyOrder(1, 2, 1), asList(2, 1, 2));
+        assertMismatchDescription("no item matches: <1>, null in [<2>, <1>]", containsInAnyOrder(1, 2, 1, null), asList(2, 1));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testDescribesMismatchOfEqualMatchersInTheOrderGiven() {
+        assertMismatchDescription("no item matches: <3>, <1> in [<2>, <1>]",
+                containsInAnyOrder(equalTo(3), equalTo(1), equalTo(2), equalTo(1)), asList(2, 1));
+        assertMismatchDescription("no match for: <4>",
+                containsInAnyOrder(equalTo(1), equalTo(2)), asList(2, 1, 4));
+    }
+
+    public void testMatchesLargeIterables() {
+        final Integer[] expected = new Integer[100000];
+        final List<Integer> actual = new ArrayList<Integer>(expected.length);
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = i;
+            actual.add(expected.length - 1 - i);
+        }
+        assertMatches("reversed", containsInAnyOrder(expected), actual);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testMatchesWhenOverlappingMatchersCanAllBeSatisfied() {
+        assertMatches("overlapping", containsInAnyOrder(startsWith("a"), equalTo("ab")), asList("ab", "a"));
+        assertMismatchDescription("not matched: \"ad\"",
+                containsInAnyOrder(startsWith("a"), startsWith("a"), equalTo("b")), asList("ab", "ac", "ad"));
+    }
+
+    public void testMatchesOverlappingMatchersThatFirstFitWouldPairWrongly() {
+        final List<Matcher<? super Integer>> matchers = new ArrayList<Matcher<? super Integer>>();
+        final List<Integer> descending = new ArrayList<Integer>();
+        for (int i = 0; i < 2000; i++) {
+            matchers.add(greaterThanOrEqualTo(i));
+            descending.add(1999 - i);
+        }
+        assertMatches("descending", containsInAnyOrder(matchers), descending);
+    }
+
+    public void testEvaluatesEachMatcherAgainstEachItemAtMostOnce() {
+        final List<Integer> evaluated = new ArrayList<Integer>();
+        final List<Matcher<? super Integer>> matchers = new ArrayList<Matcher<? super Integer>>();
+        for (int i = 0; i < 3; i++) {
+            matchers.add(new CustomMatcher<Integer>("anything") {
+                @Override public boolean matches(Object item) {
+                    evaluated.add((Integer) item);
+                    return true;
+                }
+            });
+        }
+        assertMatches("any order", containsInAnyOrder(matchers), asList(1, 2, 3));
+        assertEquals(asList(1, 2, 2, 3, 3, 3), evaluated);
+    }
+
+    public void testEvaluatesTheRestOfAnItemsMatchersOnlyWhenPairingsConflict() {
+        final List<String> evaluated = new ArrayList<String>();
+        final List<Matcher<? super String>> matchers = new ArrayList<Matcher<? super String>>();
+        for (final String prefix : asList("a", "ab", "b")) {
+            matchers.add(new CustomMatcher<String>("starts with " + prefix) {
+                @Override public boolean matches(Object item) {
+                    evaluated.add(prefix + ":" + item);
+                    return ((String) item).startsWith(prefix);
+                }
+            });
+        }
+        assertMatches("conflicting", containsInAnyOrder(matchers), asList("abc", "ax", "b"));
+        assertEquals(asList("a:abc", "a:ax", "ab:ax", "b:ax", "a:b", "ab:b", "b:b", "ab:abc", "b:abc"), evaluated);
+    }
 }
@@ -0,0 +1,177 @@
+package org.hamcrest.xml;
+
+import static org.hamcrest.AbstractMatcherTest.assertDescription;
+import static org.hamcrest.AbstractMatcherTest.assertDoesNotMatch;
+import static org.hamcrest.AbstractMatcherTest.assertMatches;
+import static org.hamcrest.AbstractMatcherTest.assertMismatchDescription;
+import static org.hamcrest.AbstractMatcherTest.assertNullSafe;
+import static org.hamcrest.AbstractMatcherTest.assertUnknownTypeSafe;
+import static org.hamcrest.core.IsAnything.anything;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.xml.HasStreamedXPath.hasXPathInFile;
+import static org.hamcrest.xml.HasStreamedXPath.hasXPathInSource;
+import static org.hamcrest.xml.HasStreamedXPath.hasXPathInStream;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.Source;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamSource;
+
+import org.hamcrest.Matcher;
+import org.junit.Test;
+
+public final class HasStreamedXPathTest {
+
+    private static final String XML = ""
+            + "<root type='food'>\n"
+            + "  <something id='a'><cheese>Edam</cheese></something>\n"
+            + "  <something id='b'><cheese>Cheddar</cheese><cheese>Brie</cheese></something>\n"
+            + "  <other><something id='c'><cheese>Stilton</cheese></something></other>\n"
+            + "  <f:foreignSomething xmlns:f=\"http://cheese.com\" milk=\"camel\">Cara<b>vane</b></f:foreignSomething>\n"
+            + "  <emptySomething />\n"
+            + "</root>\n";
+
+    @Test public void
+    copesWithNullsAndUnknownTypes() {
+        Matcher<InputStream> matcher = hasXPathInStream("//irrelevant", anything());
+
+        assertNullSafe(matcher);
+        assertUnknownTypeSafe(matcher);
+    }
+
+    @Test public void
+    appliesMatcherToValueAtPath() {
+        assertMatches(hasXPathInStream("/root/something[2]/cheese", equalTo("Cheddar")), xml());
+        assertMatches(hasXPathInStream("/root/something/cheese", equalTo("Edam")), xml());
+        assertMatches(hasXPathInStream("/root/something[2]/cheese[2]", equalTo("Brie")), xml());
+        assertMatches(hasXPathInStream("/root/@type", equalTo("food")), xml());
+        assertMatches(hasXPathInStream("/root/something[@id='b']/cheese", equalTo("Cheddar")), xml());
+        assertMatches(hasXPathInStream("//something[@id=\"c\"]/cheese", equalTo("Stilton")), xml());
+        assertMatches(hasXPathInStream("/root/*[3]/something/@id", equalTo("c")), xml());
+        assertMatches(hasXPathInStream("/root/emptySomething", equalTo("")), xml());
+    }
+
+    @Test public void
+    matchesNamesOnlyInNoNamespace() {
+        assertDoesNotMatch(hasXPathInStream("//foreignSomething", anything()), xml());
+        assertDoesNotMatch(hasXPathInStream("//foreignSomething/@milk", anything()), xml());
+        assertMatches(hasXPathInStream("/root/*[4]", equalTo("Caravane")), xml());
+        assertMatches(hasXPathInStream("//*[@milk='camel']/b", equalTo("vane")), xml());
+        assertDoesNotMatch(hasXPathInStream("/root/@milk", anything()),
+                           stream("<root xmlns:f='http://cheese.com' f:milk='camel'/>"));
+    }
+
+    @Test public void
+    findsPositionsAmongSiblingsLikeXPath() {
+        assertMatches(hasXPathInStream("//something[1]/@id", equalTo("a")), xml());
+        assertMatches(hasXPathInStream("//other/something[1]/@id", equalTo("c")), xml());
+        assertDoesNotMatch(hasXPathInStream("//something[3]", anything()), xml());
+    }
+
+    @Test public void
+    readsSourcesAndFiles() {
+        assertMatches(hasXPathInSource("/root/something[2]/@id", equalTo("b")), new StreamSource(xml()));
+        assertMatches(hasXPathInSource("/root/something[2]/@id", equalTo("b")), new StreamSource(new StringReader(XML)));
+        assertMatches(hasXPathInFile("//cheese", equalTo("Edam")), file(XML));
+        assertMatches(hasXPathInSource("//cheese", equalTo("Edam")), (Source) new StreamSource(file(XML)));
+    }
+
+    @Test public void
+    doesNotMatchSourcesThatCannotBeStreamed() throws Exception {
+        final Source dom = new DOMSource(DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument());
+        assertMismatchDescription("cannot read a javax.xml.transform.dom.DOMSource as a stream",
+                hasXPathInSource("//cheese", anything()), dom);
+    }
+
+    @Test public void
+    stopsReadingOnceTheValueIsFound() {
+        final String truncated = "<root><something id='a'/><something id='b'><cheese>Cheddar</cheese></something><broken";
+        assertMatches(hasXPathInStream("/root/something[2]/cheese", equalTo("Cheddar")), stream(truncated));
+        assertMatches(hasXPathInStream("//cheese", equalTo("Cheddar")), stream(truncated));
+    }
+
+    @Test public void
+    stopsReadingOnceTheValueCannotBeFound() {
+        final String truncated = "<root><something id='a'/><something id='b'><cheese>Cheddar</cheese></something><broken";
+        assertMismatchDescription("xpath returned no results.",
+                hasXPathInFile("/root/something[2]/@missing", anything()), file(truncated));
+        assertMismatchDescription("xpath returned no results.",
+                hasXPathInFile("/other/something", anything()), file(truncated));
+    }
+
+    @Test public void
+    describesMissingNodeMismatch() {
+        assertMismatchDescription("xpath returned no results.", hasXPathInFile("//honky", anything()), file(XML));
+    }
+
+    @Test public void
+    describesIncorrectNodeValueMismatch() {
+        assertMismatchDescription("was \"Edam\"", hasXPathInFile("//something[1]/cheese", equalTo("parmesan")), file(XML));
+    }
+
+    @Test public void
+    doesNotMatchMalformedXml() {
+        assertFalse(hasXPathInStream("//honky", anything()).matches(stream("<root><unclosed></root>")));
+    }
+
+    @Test public void
+    describesItself() {
+        assertDescription("an XML document with XPath /some/path \"Cheddar\"",
+                          hasXPathInStream("/some/path", equalTo("Cheddar")));
+    }
+
+    @Test public void
+    rejectsExpressionsThatCannotBeStreamed() {
+        for (String xPath : new String[] { "", "relative", "/a/", "/a[last()]", "/a[0]", "//@id", "/a/@id/b",
+                                           "/a/text()", "/a[@id=b]", "/a::b", "/f:a", "/a[1][2]" }) {
+            try {
+                hasXPathInStream(xPath, anything());
+                fail("Expected exception for " + xPath);
+            } catch (IllegalArgumentException expected) {
+                // expected exception
+            }
+        }
+    }
+
+    /**
+     * A stream can be read only once, so mismatches, which are described after matching,
+     * are checked against files.
+     */
+    private static File file(String xml) {
+        try {
+            final File file = File.createTempFile("hamcrest", ".xml");
+            file.deleteOnExit();
+            final OutputStream out = new FileOutputStream(file);
+            try {
+                out.write(xml.getBytes("UTF-8"));
+            } finally {
+                out.close();
+            }
+            return file;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static InputStream xml() {
+        return stream(XML);
+    }
+
+    private static InputStream stream(String xml) {
+        try {
+            return new ByteArrayInputStream(xml.getBytes("UTF-8"));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
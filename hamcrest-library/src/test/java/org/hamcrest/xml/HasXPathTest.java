@@ -10,17 +10,27 @@ import static org.hamcrest.core.IsEqual.equalTo;
 import static org.hamcrest.core.IsNot.not;
 import static org.hamcrest.core.StringContains.containsString;
 import static org.hamcrest.xml.HasXPath.hasXPath;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 
 import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import javax.xml.namespace.NamespaceContext;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 
 import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
 import org.junit.Test;
 import org.w3c.dom.Document;
 import org.w3c.dom.Node;
@@ -139,6 +149,65 @@ public final class HasXPathTest {
         assertMismatchDescription("was \"Edam\"", hasXPath("//something[1]/cheese", equalTo("parmesan")), xml);
     }
 
+    @Test public void
+    sharesCompiledExpressionsBetweenMatchers() {
+        hasXPath("/root/something[1]/@id", equalTo("a"));
+        final long compilations = XPathExpressions.compilationCount();
+
+        assertMatches(hasXPath("/root/something[1]/@id", equalTo("a")), xml);
+        assertDoesNotMatch(hasXPath("/root/something[1]/@id", equalTo("b")), xml);
+        assertEquals(compilations, XPathExpressions.compilationCount());
+    }
+
+    @Test public void
+    doesNotShareExpressionsCompiledWithANamespaceContext() {
+        hasXPath("//cheese:foreignSomething/@milk", ns, equalTo("camel"));
+        final long compilations = XPathExpressions.compilationCount();
+
+        assertMatches(hasXPath("//cheese:foreignSomething/@milk", ns, equalTo("camel")), xml);
+        assertEquals(compilations + 1, XPathExpressions.compilationCount());
+    }
+
+    @Test public void
+    canBeSharedBetweenThreads() throws Exception {
+        final Matcher<Node> matcher = hasXPath("/root/something[2]/cheese", equalTo("Cheddar"));
+        final int threads = 8;
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<String>> results = new ArrayList<Future<String>>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(new Callable<String>() {
+                    @Override public String call() throws Exception {
+                        final Document matching = parse("<root><something/><something><cheese>Cheddar</cheese></something></root>");
+                        final Document notMatching = parse("<root><something/><something><cheese>Brie</cheese></something></root>");
+                        start.await();
+                        for (int i = 0; i < 2000; i++) {
+                            if (!matcher.matches(matching)) {
+                                return "did not match on iteration " + i;
+                            }
+                            final StringDescription mismatch = new StringDescription();
+                            if (matcher.matches(notMatching)) {
+                                return "matched on iteration " + i;
+                            }
+                            matcher.describeMismatch(notMatching, mismatch);
+                            if (!"was \"Brie\"".equals(mismatch.toString())) {
+                                return "described mismatch as " + mismatch + " on iteration " + i;
+                            }
+                        }
+                        return "ok";
+                    }
+                }));
+            }
+            start.countDown();
+            for (Future<String> result : results) {
+                assertEquals("ok", result.get(60, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     private static Document parse(String xml) {
         try {
             DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();